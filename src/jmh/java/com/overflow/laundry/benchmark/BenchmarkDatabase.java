@@ -0,0 +1,165 @@
+package com.overflow.laundry.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.h2.tools.Server;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+/**
+ * Application schema for the benchmarks that run SQL. It is migrated into a schema created for the
+ * benchmark, in an in-memory H2 database by default or in the database named by BENCHMARK_DATABASE_URL,
+ * BENCHMARK_DATABASE_USERNAME and BENCHMARK_DATABASE_PASSWORD, for instance an empty Postgres database.
+ * Closing it drops that schema and nothing else, so existing data in the target database is left alone.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+  /**
+   * Columns of a page of GET /machines, as Hibernate selects them for the machine DTO projection.
+   */
+  static final String MACHINE_PAGE_SELECT = "SELECT m.id, m.identifier, m.type_id, m.version, c.id, c.name, "
+      + "c.address, c.contact_phone, c.email, c.version FROM machine m "
+      + "LEFT JOIN condominium c ON c.id = m.condominium_id ";
+
+  private static final String H2_OPTIONS = ";DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private final String schema;
+  private final Server tcpServer;
+  private final DriverManagerDataSource dataSource;
+  private final Connection connection;
+
+  private BenchmarkDatabase(String defaultUrl, Server tcpServer) throws SQLException {
+    this.url = environment("BENCHMARK_DATABASE_URL", defaultUrl);
+    this.username = environment("BENCHMARK_DATABASE_USERNAME", "sa");
+    this.password = environment("BENCHMARK_DATABASE_PASSWORD", "");
+    this.schema = "laundry_benchmark_" + UUID.randomUUID().toString().substring(0, 8);
+    this.tcpServer = tcpServer;
+    this.dataSource = new DriverManagerDataSource(url, username, password);
+    Flyway.configure()
+        .dataSource(dataSource)
+        .schemas(schema)
+        .locations("classpath:db/migration", "classpath:com/overflow/laundry/config/migration")
+        .load()
+        .migrate();
+    dataSource.setSchema(schema);
+    this.connection = dataSource.getConnection();
+  }
+
+  /**
+   * Opens the in-memory H2 database of the given name, unless BENCHMARK_DATABASE_URL names another one.
+   */
+  static BenchmarkDatabase open(String name) throws SQLException {
+    return new BenchmarkDatabase("jdbc:h2:mem:" + name + H2_OPTIONS, null);
+  }
+
+  /**
+   * Like {@link #open(String)}, but serves the in-memory database from a local H2 TCP server, so every
+   * statement is a socket round trip as it would be with a database server.
+   */
+  static BenchmarkDatabase openOverTcp(String name) throws SQLException {
+    if (!environment("BENCHMARK_DATABASE_URL", "").isEmpty()) {
+      return new BenchmarkDatabase(null, null);
+    }
+    Server server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+    return new BenchmarkDatabase("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:" + name + H2_OPTIONS,
+        server);
+  }
+
+  /**
+   * Connection kept open for the whole trial, with the benchmark schema as its current schema.
+   */
+  Connection connection() {
+    return connection;
+  }
+
+  /**
+   * Connections to the benchmark schema, for a Hibernate session factory.
+   */
+  DataSource dataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Schema holding the migrated tables, which connections made from {@link #url()} must select themselves.
+   */
+  String schema() {
+    return schema;
+  }
+
+  String url() {
+    return url;
+  }
+
+  String username() {
+    return username;
+  }
+
+  String password() {
+    return password;
+  }
+
+  boolean isH2() throws SQLException {
+    return "H2".equals(connection.getMetaData().getDatabaseProductName());
+  }
+
+  /**
+   * Inserts condominiums 1 to {@code condominiums} and machines 1 to {@code machines} without gaps in the
+   * ids, spread evenly over the condominiums and alternating between the two machine types.
+   */
+  void seed(int condominiums, int machines) throws SQLException {
+    String range = isH2() ? "SYSTEM_RANGE(1, %d) AS r(x)" : "generate_series(1, %d) AS r(x)";
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO condominium (id, name, address, contact_phone, email) "
+          + "SELECT x, 'Condominium ' || x, x || ' Main St', '555-0100', 'manager' || x || '@laundry.com' "
+          + "FROM " + range.formatted(condominiums));
+      if (machines > 0) {
+        statement.execute("INSERT INTO machine (id, identifier, type_id, condominium_id) "
+            + "SELECT x, 'machine-' || x, CASE WHEN MOD(x, 2) = 0 THEN 1 ELSE 2 END, "
+            + "MOD(x, " + condominiums + ") + 1 FROM " + range.formatted(machines));
+      }
+      statement.execute("ANALYZE");
+    }
+  }
+
+  /**
+   * Runs a page statement built on {@link #MACHINE_PAGE_SELECT} and reads the columns the mapping would.
+   */
+  static void readMachinePage(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(resultSet.getLong(1));
+        blackhole.consume(resultSet.getString(2));
+        blackhole.consume(resultSet.getString(6));
+      }
+    }
+  }
+
+  @Override
+  public void close() throws SQLException {
+    connection.close();
+    try (Connection owner = DriverManager.getConnection(url, username, password);
+         Statement statement = owner.createStatement()) {
+      statement.execute("DROP SCHEMA \"" + schema + "\" CASCADE");
+    } finally {
+      if (tcpServer != null) {
+        tcpServer.stop();
+      }
+    }
+  }
+
+  private static String environment(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value == null || value.isBlank() ? defaultValue : value;
+  }
+}
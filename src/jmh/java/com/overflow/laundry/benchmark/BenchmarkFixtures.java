@@ -0,0 +1,30 @@
+package com.overflow.laundry.benchmark;
+
+import com.overflow.laundry.model.Condominium;
+import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class BenchmarkFixtures {
+
+  static Condominium condominium() {
+    return new Condominium(55L, "Central Park", "123 Main St", "123456789", "test@test.com", new HashSet<>(), 0L);
+  }
+
+  static Machine machine(long id, Condominium condominium) {
+    return new Machine(id, "identifier-" + id, id % 2 == 0 ? MachineType.WASHER : MachineType.DRYER, condominium, 0L);
+  }
+
+  static List<Machine> machines(int size) {
+    Condominium condominium = condominium();
+    return LongStream.rangeClosed(1, size)
+        .mapToObj(id -> machine(id, condominium))
+        .toList();
+  }
+}
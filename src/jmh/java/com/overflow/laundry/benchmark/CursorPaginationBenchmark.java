@@ -0,0 +1,81 @@
+package com.overflow.laundry.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a page of GET /machines by offset against reading it after a cursor, from the first
+ * page down to page 10,000. The offset statement walks and discards every row before the page, so its
+ * latency grows with the page number, while the keyset statement seeks the primary key index and should
+ * stay flat. The SQL mirrors what Hibernate issues for a Page and for a Window, which reads one extra row.
+ *
+ * <p>Ids are seeded without gaps, so the cursor of a page is the id of the last row of the page before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CursorPaginationBenchmark {
+
+  private static final String OFFSET_SQL = BenchmarkDatabase.MACHINE_PAGE_SELECT
+      + "ORDER BY m.id OFFSET ? ROWS FETCH FIRST ? ROWS ONLY";
+  private static final String KEYSET_SQL = BenchmarkDatabase.MACHINE_PAGE_SELECT
+      + "WHERE m.id > ? ORDER BY m.id FETCH FIRST ? ROWS ONLY";
+  private static final int CONDOMINIUMS = 1_000;
+  private static final int ROWS = 1_000_000;
+
+  @Param({"1", "100", "1000", "10000"})
+  private int pageNumber;
+
+  @Param({"20"})
+  private int pageSize;
+
+  private BenchmarkDatabase database;
+  private PreparedStatement offsetStatement;
+  private PreparedStatement keysetStatement;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = BenchmarkDatabase.open("cursor-benchmark");
+    database.seed(CONDOMINIUMS, ROWS);
+    offsetStatement = database.connection().prepareStatement(OFFSET_SQL);
+    keysetStatement = database.connection().prepareStatement(KEYSET_SQL);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    database.close();
+  }
+
+  @Benchmark
+  public void offsetPage(Blackhole blackhole) throws SQLException {
+    offsetStatement.setLong(1, (long) (pageNumber - 1) * pageSize);
+    offsetStatement.setInt(2, pageSize);
+    BenchmarkDatabase.readMachinePage(offsetStatement, blackhole);
+  }
+
+  @Benchmark
+  public void cursorPage(Blackhole blackhole) throws SQLException {
+    keysetStatement.setLong(1, (long) (pageNumber - 1) * pageSize);
+    keysetStatement.setInt(2, pageSize + 1);
+    BenchmarkDatabase.readMachinePage(keysetStatement, blackhole);
+  }
+}
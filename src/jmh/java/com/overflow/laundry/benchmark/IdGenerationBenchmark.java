@@ -0,0 +1,118 @@
+package com.overflow.laundry.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares inserting a bulk of machines the way Hibernate did with one sequence call per entity and no
+ * batching, against the pooled-lo generator with an allocation size of 50 and JDBC batches of 50. The
+ * first issues two statements per machine, the second one sequence call and one batch per 50 machines.
+ * Each operation rolls back its inserts, so the table stays the same size across iterations.
+ *
+ * <p>The default H2 database is served over TCP, since the difference is in round trips, which an
+ * embedded database does not have.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO machine (id, identifier, type_id, condominium_id, version) VALUES (?, ?, 1, 1, 0)";
+  private static final String SINGLE_SEQUENCE = "machine_single_seq";
+  private static final String POOLED_SEQUENCE = "machine_seq";
+  private static final int ALLOCATION_SIZE = 50;
+
+  @Param({"1000"})
+  private int machines;
+
+  private BenchmarkDatabase database;
+  private Connection connection;
+  private PreparedStatement singleSequenceStatement;
+  private PreparedStatement pooledSequenceStatement;
+  private PreparedStatement insertStatement;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = BenchmarkDatabase.openOverTcp("id-generation-benchmark");
+    database.seed(1, 0);
+    connection = database.connection();
+    boolean h2 = database.isH2();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SEQUENCE " + SINGLE_SEQUENCE + " START WITH 1 INCREMENT BY 1");
+    }
+    connection.setAutoCommit(false);
+    singleSequenceStatement = connection.prepareStatement(nextValueSql(SINGLE_SEQUENCE, h2));
+    pooledSequenceStatement = connection.prepareStatement(nextValueSql(POOLED_SEQUENCE, h2));
+    insertStatement = connection.prepareStatement(INSERT_SQL);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    database.close();
+  }
+
+  @Benchmark
+  public void sequencePerInsert() throws SQLException {
+    for (int i = 0; i < machines; i++) {
+      long id = nextValue(singleSequenceStatement);
+      bindMachine(id);
+      insertStatement.executeUpdate();
+    }
+    connection.rollback();
+  }
+
+  @Benchmark
+  public void pooledLoBatched() throws SQLException {
+    long blockStart = 0;
+    for (int i = 0; i < machines; i++) {
+      if (i % ALLOCATION_SIZE == 0) {
+        if (i > 0) {
+          insertStatement.executeBatch();
+        }
+        blockStart = nextValue(pooledSequenceStatement);
+      }
+      bindMachine(blockStart + i % ALLOCATION_SIZE);
+      insertStatement.addBatch();
+    }
+    insertStatement.executeBatch();
+    connection.rollback();
+  }
+
+  private static String nextValueSql(String sequence, boolean h2) {
+    return h2 ? "SELECT NEXT VALUE FOR " + sequence : "SELECT nextval('" + sequence + "')";
+  }
+
+  private static long nextValue(PreparedStatement statement) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  private void bindMachine(long id) throws SQLException {
+    insertStatement.setLong(1, id);
+    insertStatement.setString(2, "machine-" + id);
+  }
+}
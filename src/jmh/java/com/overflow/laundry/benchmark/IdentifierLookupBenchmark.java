@@ -0,0 +1,108 @@
+package com.overflow.laundry.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of GET /machines/identifier and of the duplicate check of machine creation over one million
+ * machines. Both filter on (condominium_id, identifier), which the composite uk_machine_condominium_identifier
+ * index answers with a single probe whatever the table size. The SQL mirrors what Hibernate issues for
+ * the DTO lookup and for existsByIdentifierAndCondominiumId.
+ *
+ * <p>With {@code indexes=composite} the single-column identifier indexes of the search are dropped, so
+ * only the composite indexes can serve the predicate. With {@code indexes=none} those are dropped too, as
+ * the baseline the composite index is measured against. Each call looks up another machine, either one
+ * that exists or the same identifier in a condominium that does not hold it, the usual outcome of the
+ * duplicate check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IdentifierLookupBenchmark {
+
+  private static final String LOOKUP_SQL = BenchmarkDatabase.MACHINE_PAGE_SELECT
+      + "WHERE m.identifier = ? AND m.condominium_id = ?";
+  private static final String EXISTS_SQL = "SELECT m.id FROM machine m "
+      + "WHERE m.identifier = ? AND m.condominium_id = ? FETCH FIRST 1 ROWS ONLY";
+  private static final int CONDOMINIUMS = 1_000;
+  private static final int ROWS = 1_000_000;
+  private static final long STRIDE = 7_919;
+
+  @Param({"composite", "none"})
+  private String indexes;
+
+  @Param({"true", "false"})
+  private boolean identifierInUse;
+
+  private BenchmarkDatabase database;
+  private PreparedStatement lookupStatement;
+  private PreparedStatement existsStatement;
+  private long machineId;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = BenchmarkDatabase.open("identifier-lookup-benchmark");
+    database.seed(CONDOMINIUMS, ROWS);
+    try (Statement statement = database.connection().createStatement()) {
+      statement.execute("DROP INDEX IF EXISTS ix_machine_identifier");
+      statement.execute("DROP INDEX IF EXISTS ix_machine_identifier_pattern");
+      if ("none".equals(indexes)) {
+        statement.execute("DROP INDEX IF EXISTS ix_machine_condominium_identifier_covering");
+        statement.execute("ALTER TABLE machine DROP CONSTRAINT uk_machine_condominium_identifier");
+      }
+      statement.execute("ANALYZE");
+    }
+    lookupStatement = database.connection().prepareStatement(LOOKUP_SQL);
+    existsStatement = database.connection().prepareStatement(EXISTS_SQL);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    database.close();
+  }
+
+  @Benchmark
+  public void lookupByIdentifier(Blackhole blackhole) throws SQLException {
+    bindNextMachine(lookupStatement);
+    BenchmarkDatabase.readMachinePage(lookupStatement, blackhole);
+  }
+
+  @Benchmark
+  public boolean existsByIdentifier() throws SQLException {
+    bindNextMachine(existsStatement);
+    try (ResultSet resultSet = existsStatement.executeQuery()) {
+      return resultSet.next();
+    }
+  }
+
+  /**
+   * Machine x is seeded as 'machine-x' in condominium (x mod 1000) + 1, the next condominium never holds it.
+   */
+  private void bindNextMachine(PreparedStatement statement) throws SQLException {
+    machineId = (machineId + STRIDE) % ROWS + 1;
+    long condominiumId = machineId % CONDOMINIUMS + (identifierInUse ? 1 : 2);
+    statement.setString(1, "machine-" + machineId);
+    statement.setLong(2, condominiumId);
+  }
+}
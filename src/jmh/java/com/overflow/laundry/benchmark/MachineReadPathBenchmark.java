@@ -0,0 +1,102 @@
+package com.overflow.laundry.benchmark;
+
+import com.overflow.laundry.model.Condominium;
+import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.converter.MachineTypeConverter;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.mapper.CondominiumMapper;
+import com.overflow.laundry.model.mapper.MachineMapper;
+import com.overflow.laundry.repository.MachineRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways of serving a page of GET /machines: loading managed entities and mapping them,
+ * as the service did before, against selecting straight into the response records. Both run through
+ * Hibernate on the application schema, in read-only sessions as the service methods use, so the
+ * difference includes hydration, persistence context bookkeeping and the mapper. The gc profiler
+ * configured for the jmh task reports allocation per operation next to the latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MachineReadPathBenchmark {
+
+  private static final String ENTITY_PAGE_JPQL = "SELECT m FROM Machine m JOIN FETCH m.condominium ORDER BY m.id";
+  private static final String PROJECTION_PAGE_JPQL = MachineRepository.MACHINE_DTO_SELECT + " ORDER BY m.id";
+  private static final int CONDOMINIUMS = 100;
+  private static final int ROWS = 10_000;
+
+  @Param({"20", "100"})
+  private int pageSize;
+
+  private BenchmarkDatabase database;
+  private SessionFactory sessionFactory;
+  private MachineMapper machineMapper;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = BenchmarkDatabase.open("read-path-benchmark");
+    database.seed(CONDOMINIUMS, ROWS);
+
+    Configuration configuration = new Configuration()
+        .addAnnotatedClass(Condominium.class)
+        .addAnnotatedClass(Machine.class)
+        .addAttributeConverter(MachineTypeConverter.class)
+        .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+    configuration.getProperties().put(AvailableSettings.DATASOURCE, database.dataSource());
+    sessionFactory = configuration.buildSessionFactory();
+    machineMapper = new MachineMapper(new CondominiumMapper());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    sessionFactory.close();
+    database.close();
+  }
+
+  @Benchmark
+  public List<MachineResponseDto> entityPage() {
+    return sessionFactory.fromTransaction(session -> {
+      session.setDefaultReadOnly(true);
+      return session.createSelectionQuery(ENTITY_PAGE_JPQL, Machine.class)
+          .setMaxResults(pageSize)
+          .getResultList()
+          .stream()
+          .map(machineMapper::toDto)
+          .toList();
+    });
+  }
+
+  @Benchmark
+  public List<MachineResponseDto> projectionPage() {
+    return sessionFactory.fromTransaction(session -> {
+      session.setDefaultReadOnly(true);
+      return session.createSelectionQuery(PROJECTION_PAGE_JPQL, MachineResponseDto.class)
+          .setMaxResults(pageSize)
+          .getResultList();
+    });
+  }
+}
@@ -0,0 +1,54 @@
+package com.overflow.laundry.benchmark;
+
+import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.mapper.CondominiumMapper;
+import com.overflow.laundry.model.mapper.MachineMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping one machine entity, and its condominium alone, to the response records returned by
+ * the API. It is the per-row cost every entity read path pays on top of the query, and the baseline
+ * for the page-level numbers of {@link PaginationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+  private CondominiumMapper condominiumMapper;
+  private MachineMapper machineMapper;
+  private Machine machine;
+
+  @Setup
+  public void setUp() {
+    condominiumMapper = new CondominiumMapper();
+    machineMapper = new MachineMapper(condominiumMapper);
+    machine = BenchmarkFixtures.machine(101L, BenchmarkFixtures.condominium());
+  }
+
+  @Benchmark
+  public CondominiumResponseDto condominiumToDto() {
+    return condominiumMapper.toDto(machine.getCondominium());
+  }
+
+  @Benchmark
+  public MachineResponseDto machineToDto() {
+    return machineMapper.toDto(machine);
+  }
+}
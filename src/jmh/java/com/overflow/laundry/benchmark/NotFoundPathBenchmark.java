@@ -0,0 +1,98 @@
+package com.overflow.laundry.benchmark;
+
+import com.overflow.laundry.exception.MachineNotFoundException;
+import com.overflow.laundry.util.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_NOT_FOUND;
+import static com.overflow.laundry.constant.MetricNames.EXPECTED_ERRORS;
+
+/**
+ * Throughput of answering a lookup for a missing machine, thrown from a call stack as deep as the
+ * servlet, security and proxy frames above a service method. The stackful case is the former path: an
+ * exception capturing its trace, printed in full by the WARN line of every request. The stackless case
+ * is the current one: the trace is never captured, the error is counted and the sampled WARN line is
+ * written at most once per interval, so here not at all past the first call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+  @Param({"32", "160"})
+  private int stackDepth;
+
+  private LogSampler logSampler;
+  private Counter expectedErrors;
+
+  @Setup
+  public void setUp() {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    expectedErrors = Counter.builder(EXPECTED_ERRORS).tag("exception", "MachineNotFoundException")
+        .register(meterRegistry);
+    logSampler = new LogSampler(Duration.ofSeconds(10));
+  }
+
+  @Benchmark
+  public String stackfulNotFound() {
+    try {
+      throwFrom(stackDepth, () -> new StackfulNotFoundException(MACHINE_NOT_FOUND.label));
+      return null;
+    } catch (StackfulNotFoundException ex) {
+      StringWriter logLine = new StringWriter();
+      ex.printStackTrace(new PrintWriter(logLine));
+      return logLine.toString();
+    }
+  }
+
+  @Benchmark
+  public String stacklessNotFound() {
+    try {
+      throwFrom(stackDepth, () -> new MachineNotFoundException(MACHINE_NOT_FOUND.label));
+      return null;
+    } catch (MachineNotFoundException ex) {
+      expectedErrors.increment();
+      return logSampler.sample("MachineNotFoundException").isPresent() ? ex.getMessage() : null;
+    }
+  }
+
+  private static void throwFrom(int depth, ExceptionFactory factory) {
+    if (depth == 0) {
+      throw factory.create();
+    }
+    throwFrom(depth - 1, factory);
+  }
+
+  @FunctionalInterface
+  private interface ExceptionFactory {
+    RuntimeException create();
+  }
+
+  private static final class StackfulNotFoundException extends RuntimeException {
+
+    private StackfulNotFoundException(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.overflow.laundry.benchmark;
+
+import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.mapper.CondominiumMapper;
+import com.overflow.laundry.model.mapper.MachineMapper;
+import com.overflow.laundry.util.PaginationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a page of machine entities into the pagination response of GET /machines, mapping
+ * included, at page sizes from 10 to 1,000. Compared with {@link MapperBenchmark}, it shows how much of
+ * the page is spent on anything other than mapping each row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int pageSize;
+
+  private MachineMapper machineMapper;
+  private Page<Machine> page;
+
+  @Setup
+  public void setUp() {
+    machineMapper = new MachineMapper(new CondominiumMapper());
+    page = new PageImpl<>(BenchmarkFixtures.machines(pageSize), PageRequest.of(0, pageSize), pageSize * 10L);
+  }
+
+  @Benchmark
+  public PaginationResponseDto<MachineResponseDto> toPaginationResponse() {
+    return PaginationUtils.toPaginationResponse(page, machineMapper::toDto);
+  }
+}
@@ -0,0 +1,89 @@
+package com.overflow.laundry.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the statements behind GET /machines with and without totals on a large machine table. The
+ * schema comes from the application migrations and the SQL mirrors what Hibernate issues for a
+ * Page (page query plus count) and for a Slice (page query reading one extra row).
+ *
+ * <p>H2 answers an unfiltered count from table metadata, so run it against Postgres through the
+ * variables read by {@link BenchmarkDatabase} to measure the count scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SlicePaginationBenchmark {
+
+  private static final String PAGE_SQL = BenchmarkDatabase.MACHINE_PAGE_SELECT
+      + "ORDER BY m.id DESC OFFSET ? ROWS FETCH FIRST ? ROWS ONLY";
+  private static final String COUNT_SQL = "SELECT COUNT(m.id) FROM machine m";
+  private static final int CONDOMINIUMS = 1_000;
+
+  @Param({"1000000", "3000000"})
+  private int rows;
+
+  @Param({"1", "100"})
+  private int pageNumber;
+
+  @Param({"20"})
+  private int pageSize;
+
+  private BenchmarkDatabase database;
+  private PreparedStatement pageStatement;
+  private PreparedStatement countStatement;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = BenchmarkDatabase.open("slice-benchmark");
+    database.seed(CONDOMINIUMS, rows);
+    pageStatement = database.connection().prepareStatement(PAGE_SQL);
+    countStatement = database.connection().prepareStatement(COUNT_SQL);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    database.close();
+  }
+
+  @Benchmark
+  public void pageWithTotal(Blackhole blackhole) throws SQLException {
+    readPage(pageSize, blackhole);
+    try (ResultSet resultSet = countStatement.executeQuery()) {
+      resultSet.next();
+      blackhole.consume(resultSet.getLong(1));
+    }
+  }
+
+  @Benchmark
+  public void sliceWithoutTotal(Blackhole blackhole) throws SQLException {
+    readPage(pageSize + 1, blackhole);
+  }
+
+  private void readPage(int limit, Blackhole blackhole) throws SQLException {
+    pageStatement.setLong(1, (long) (pageNumber - 1) * pageSize);
+    pageStatement.setInt(2, limit);
+    BenchmarkDatabase.readMachinePage(pageStatement, blackhole);
+  }
+}
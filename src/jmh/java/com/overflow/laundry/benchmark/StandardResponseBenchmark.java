@@ -0,0 +1,75 @@
+package com.overflow.laundry.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.mapper.CondominiumMapper;
+import com.overflow.laundry.model.mapper.MachineMapper;
+import com.overflow.laundry.util.PaginationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_FOUND;
+
+/**
+ * Cost of the response envelope: wrapping a machine in StandardResponse, then wrapping and serializing
+ * to JSON a single machine and a page of 1 to 100 machines with the ObjectMapper Spring MVC builds.
+ * Wrapping alone is the baseline that shows what serialization adds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandardResponseBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int pageSize;
+
+  private ObjectMapper objectMapper;
+  private MachineResponseDto machine;
+  private PaginationResponseDto<MachineResponseDto> machinePage;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    MachineMapper machineMapper = new MachineMapper(new CondominiumMapper());
+    machine = machineMapper.toDto(BenchmarkFixtures.machine(101L, BenchmarkFixtures.condominium()));
+    machinePage = PaginationUtils.toPaginationResponse(
+        new PageImpl<>(BenchmarkFixtures.machines(pageSize), PageRequest.of(0, pageSize), pageSize),
+        machineMapper::toDto);
+  }
+
+  @Benchmark
+  public ResponseEntity<StandardResponse<MachineResponseDto>> wrapMachine() {
+    return StandardResponse.success(MACHINE_FOUND, machine);
+  }
+
+  @Benchmark
+  public byte[] wrapAndSerializeMachine() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(StandardResponse.success(MACHINE_FOUND, machine).getBody());
+  }
+
+  @Benchmark
+  public byte[] wrapAndSerializeMachinePage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(StandardResponse.success(MACHINE_FOUND, machinePage).getBody());
+  }
+}
@@ -0,0 +1,207 @@
+package com.overflow.laundry.benchmark;
+
+import com.overflow.laundry.LaundryApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Load test of the API served by platform threads against virtual threads. For each client count and
+ * each value of spring.threads.virtual.enabled, it starts the application on a random port against a
+ * {@link BenchmarkDatabase} holding one hundred thousand machines. It then runs that many closed-loop
+ * clients, each sending its next request as soon as the previous one is answered, and prints the
+ * throughput and the p50 and p99 latency of the requests answered within the measurement window. With
+ * platform threads Tomcat serves at most 200 requests at a time and the other clients queue for a
+ * thread; with virtual threads they all get one and queue for a database connection instead.
+ *
+ * <p>This is not a JMH benchmark, since JMH measures a fixed set of its own threads rather than how a
+ * server copes with thousands of concurrent connections. Run it with {@code ./gradlew loadBenchmark}, which
+ * compares 1,000 and 5,000 clients of the first page of GET /machines on both modes; -PloadClients,
+ * -PloadThreading, -PloadWarmup, -PloadDuration and -PloadPath override those defaults. The default H2
+ * database answers too fast for requests to wait on it, so to compare the threading modes under blocking
+ * I/O, run it against Postgres through the variables read by {@link BenchmarkDatabase}.
+ * Clients and server share this JVM and its CPUs, and 5,000 clients need about 10,000 open files.
+ */
+public final class ThreadingLoadBenchmark {
+
+  private static final int CONDOMINIUMS = 1_000;
+  private static final int MACHINES = 100_000;
+
+  private ThreadingLoadBenchmark() {
+  }
+
+  /**
+   * Arguments: comma-separated client counts, comma-separated threading modes (platform, virtual),
+   * warmup and measurement durations in ISO-8601, and the path requested by every client.
+   */
+  public static void main(String[] args) throws Exception {
+    List<Integer> clientCounts = Arrays.stream(args[0].split(",")).map(String::trim).map(Integer::valueOf).toList();
+    List<Boolean> threadingModes = Arrays.stream(args[1].split(",")).map(String::trim)
+        .map(ThreadingLoadBenchmark::isVirtual).toList();
+    Duration warmup = Duration.parse(args[2]);
+    Duration duration = Duration.parse(args[3]);
+    String path = args[4];
+
+    try (BenchmarkDatabase database = BenchmarkDatabase.openOverTcp("threading-load-benchmark")) {
+      database.seed(CONDOMINIUMS, MACHINES);
+      System.out.printf("GET %s, %s warmup, %s measurement%n", path, warmup, duration);
+      System.out.printf("%-9s %8s %12s %10s %10s %8s%n", "threads", "clients", "requests/s", "p50 ms", "p99 ms",
+          "errors");
+      for (int clients : clientCounts) {
+        for (boolean virtualThreads : threadingModes) {
+          try (ConfigurableApplicationContext application = start(database, virtualThreads)) {
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            LoadResult result = drive(URI.create("http://localhost:" + port + path), clients, warmup, duration);
+            System.out.printf("%-9s %8d %12.1f %10.2f %10.2f %8d%n", virtualThreads ? "virtual" : "platform",
+                clients, result.requests() / (duration.toNanos() / 1e9), result.percentileMillis(0.50),
+                result.percentileMillis(0.99), result.errors());
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean isVirtual(String threadingMode) {
+    return switch (threadingMode) {
+      case "platform" -> false;
+      case "virtual" -> true;
+      default -> throw new IllegalArgumentException("Unknown threading mode " + threadingMode
+          + ", expected platform or virtual");
+    };
+  }
+
+  /**
+   * Starts the application with the local profile, which authenticates no request, on the benchmark
+   * schema, which is already migrated. SQL tracing and request logging are turned down so they are not
+   * what is measured.
+   */
+  private static ConfigurableApplicationContext start(BenchmarkDatabase database, boolean virtualThreads)
+      throws SQLException {
+    String dialect = database.isH2() ? "org.hibernate.dialect.H2Dialect" : "org.hibernate.dialect.PostgreSQLDialect";
+    return new SpringApplicationBuilder(LaundryApplication.class)
+        .profiles("local")
+        .run("--server.port=0",
+            "--management.server.port=0",
+            "--spring.threads.virtual.enabled=" + virtualThreads,
+            "--spring.datasource.url=" + database.url(),
+            "--spring.datasource.username=" + database.username(),
+            "--spring.datasource.password=" + database.password(),
+            "--spring.datasource.driver-class-name=",
+            "--spring.datasource.hikari.schema=" + database.schema(),
+            "--spring.jpa.database-platform=" + dialect,
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.flyway.enabled=false",
+            "--laundry.sql-tracing.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework.security=WARN");
+  }
+
+  private static LoadResult drive(URI uri, int clients, Duration warmup, Duration duration) {
+    HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", "application/json").GET().build();
+    long measureFrom = System.nanoTime() + warmup.toNanos();
+    long measureUntil = measureFrom + duration.toNanos();
+    List<Client> started = new ArrayList<>(clients);
+    // Clients run on virtual threads, so thousands of them do not take thousands of platform threads
+    try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+         ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < clients; i++) {
+        Client client = new Client(httpClient, request, measureFrom, measureUntil);
+        started.add(client);
+        clientThreads.execute(client);
+      }
+    }
+
+    int requests = started.stream().mapToInt(client -> client.latencyCount).sum();
+    long[] latencies = new long[requests];
+    int offset = 0;
+    long errors = 0;
+    for (Client client : started) {
+      System.arraycopy(client.latencies, 0, latencies, offset, client.latencyCount);
+      offset += client.latencyCount;
+      errors += client.errors;
+    }
+    Arrays.sort(latencies);
+    return new LoadResult(latencies, errors);
+  }
+
+  private record LoadResult(long[] sortedLatencies, long errors) {
+
+    int requests() {
+      return sortedLatencies.length;
+    }
+
+    double percentileMillis(double percentile) {
+      if (sortedLatencies.length == 0) {
+        return Double.NaN;
+      }
+      int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+  }
+
+  /**
+   * Sends requests one after the other until the measurement window closes, recording the latency of the
+   * successful ones that started and finished inside it.
+   */
+  private static final class Client implements Runnable {
+
+    private final HttpClient httpClient;
+    private final HttpRequest request;
+    private final long measureFrom;
+    private final long measureUntil;
+    private long[] latencies = new long[256];
+    private int latencyCount;
+    private long errors;
+
+    private Client(HttpClient httpClient, HttpRequest request, long measureFrom, long measureUntil) {
+      this.httpClient = httpClient;
+      this.request = request;
+      this.measureFrom = measureFrom;
+      this.measureUntil = measureUntil;
+    }
+
+    @Override
+    public void run() {
+      for (long start = System.nanoTime(); start < measureUntil; start = System.nanoTime()) {
+        boolean success;
+        try {
+          success = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException ex) {
+          success = false;
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        long end = System.nanoTime();
+        if (start < measureFrom || end > measureUntil) {
+          continue;
+        }
+        if (success) {
+          record(end - start);
+        } else {
+          errors++;
+        }
+      }
+    }
+
+    private void record(long latency) {
+      if (latencyCount == latencies.length) {
+        latencies = Arrays.copyOf(latencies, latencyCount * 2);
+      }
+      latencies[latencyCount++] = latency;
+    }
+  }
+}
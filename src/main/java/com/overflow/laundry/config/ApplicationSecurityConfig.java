@@ -1,31 +1,86 @@
 package com.overflow.laundry.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import com.overflow.laundry.exception.CustomAccessDeniedHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @Profile("!local")
 public class ApplicationSecurityConfig {
 
+  private static final String PROMETHEUS_ENDPOINT = "/actuator/prometheus";
+
   String[] whitelistEndpoints = {
       "/farewell", "/home"
   };
   String[] protectedEndpoints = {
-      "/machines", "/machines/**", "/condominiums", "/condominiums/**"
+      "/machines", "/machines/**", "/condominiums", "/condominiums/**", "/actuator/**"
+  };
+  String[] healthEndpoints = {
+      "/actuator/health", "/actuator/health/**"
   };
 
+  /**
+   * Health probes and the Prometheus scraper cannot present a Cognito token, so their endpoints have a
+   * chain of their own, ahead of the default one, that lets every request in. Prometheus is only let in
+   * on management.server.port, which is not published; if actuator is served on the application port,
+   * scrapes fall through to the default chain like caches and slowqueries and need the manager role.
+   */
   @Bean
-  SecurityFilterChain defaultSecurityFilterChain(HttpSecurity http) throws Exception {
+  @Order(1)
+  SecurityFilterChain publicActuatorSecurityFilterChain(HttpSecurity http, Environment environment)
+      throws Exception {
+    RequestMatcher managementPort = request -> Integer.valueOf(request.getLocalPort())
+        .equals(environment.getProperty("local.management.port", Integer.class));
+    List<RequestMatcher> publicActuatorRequests = new ArrayList<>();
+    for (String healthEndpoint : healthEndpoints) {
+      publicActuatorRequests.add(AntPathRequestMatcher.antMatcher(healthEndpoint));
+    }
+    publicActuatorRequests.add(new AndRequestMatcher(managementPort,
+        AntPathRequestMatcher.antMatcher(PROMETHEUS_ENDPOINT)));
+    http.securityMatcher(new OrRequestMatcher(publicActuatorRequests))
+        .sessionManagement(sessionConfig ->
+            sessionConfig.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .csrf(AbstractHttpConfigurer::disable)
+        .authorizeHttpRequests(requests -> requests.anyRequest().permitAll());
+    return http.build();
+  }
+
+  @Bean
+  SecurityFilterChain defaultSecurityFilterChain(
+      HttpSecurity http, JwtDecoder jwtDecoder, MeterRegistry meterRegistry,
+      @Value("${laundry.security.token-cache.maximum-size:10000}") long tokenCacheMaximumSize) throws Exception {
     JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
     jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(new CognitoRoleConverter());
+    JwtAuthenticationProvider jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtDecoder);
+    jwtAuthenticationProvider.setJwtAuthenticationConverter(jwtAuthenticationConverter);
+    CachingJwtAuthenticationManager authenticationManager = new CachingJwtAuthenticationManager(
+        jwtAuthenticationProvider, tokenCacheMaximumSize, meterRegistry, Clock.systemUTC());
     http.sessionManagement(sessionConfig ->
             sessionConfig.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .csrf(AbstractHttpConfigurer::disable)
@@ -33,10 +88,23 @@ public class ApplicationSecurityConfig {
         .requestMatchers(protectedEndpoints).hasRole("laundry-manager")
         .requestMatchers(whitelistEndpoints).permitAll());
     http.oauth2ResourceServer(rsc -> rsc.jwt(jwtConfigurer ->
-        jwtConfigurer.jwtAuthenticationConverter(jwtAuthenticationConverter)));
+        jwtConfigurer.authenticationManager(authenticationManager)));
     http.exceptionHandling(ehc ->
         ehc.accessDeniedHandler(new CustomAccessDeniedHandler()));
     return http.build();
   }
 
+  /**
+   * Verifies signatures against the keys held by {@link RefreshingJwkSource}, so decoding never fetches
+   * keys on the request thread. Claims are checked by the default validators of the decoder.
+   */
+  @Bean
+  JwtDecoder jwtDecoder(RefreshingJwkSource jwkSource) {
+    DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+    jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+    jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+    });
+    return new NimbusJwtDecoder(jwtProcessor);
+  }
+
 }
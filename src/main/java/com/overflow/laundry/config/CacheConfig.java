@@ -0,0 +1,35 @@
+package com.overflow.laundry.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  /**
+   * Defers puts and evictions made inside a transaction until it commits, so a rolled back write leaves
+   * the cache untouched and a write is not cached before it is visible to other transactions.
+   *
+   * <p>This does not order readers against writers: a reader that loaded a machine before an update
+   * committed can put its older copy after the update's put or eviction, and the cache then serves the
+   * old machine until the entry expires. Staleness is therefore bounded by the expireAfterWrite of
+   * spring.cache.caffeine.spec, 60 seconds by default, rather than ruled out.
+   */
+  @Bean
+  public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+          return new TransactionAwareCacheManagerProxy(cacheManager);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,129 @@
+package com.overflow.laundry.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static com.overflow.laundry.constant.CacheNames.JWT_AUTHENTICATIONS;
+import static com.overflow.laundry.constant.MetricNames.TOKEN_VERIFICATION;
+import static com.overflow.laundry.constant.MetricNames.TOKEN_VERIFICATION_SAVED;
+
+/**
+ * Authenticates bearer tokens through the JWT provider once and reuses the result for later requests
+ * carrying the same token. Entries are keyed by the SHA-256 digest of the token and expire at its
+ * {@code exp} claim, so a token is never accepted after it would have been rejected by the decoder.
+ * Tokens without an expiry are verified on every request.
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+
+  private final AuthenticationProvider jwtAuthenticationProvider;
+  private final Cache<String, CachedAuthentication> authentications;
+  private final Clock clock;
+  private final Timer verificationTimer;
+  private final Counter verificationSaved;
+
+  public CachingJwtAuthenticationManager(AuthenticationProvider jwtAuthenticationProvider, long maximumSize,
+                                         MeterRegistry meterRegistry, Clock clock) {
+    this.jwtAuthenticationProvider = jwtAuthenticationProvider;
+    this.clock = clock;
+    this.authentications = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new ExpiresAtTokenExpiry(clock))
+        .recordStats()
+        .build();
+    this.verificationTimer = Timer.builder(TOKEN_VERIFICATION)
+        .description("Time spent verifying and converting bearer tokens that were not cached")
+        .register(meterRegistry);
+    this.verificationSaved = Counter.builder(TOKEN_VERIFICATION_SAVED)
+        .description("Verification time skipped by reusing cached bearer token authentications")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, authentications, JWT_AUTHENTICATIONS);
+  }
+
+  @Override
+  public Authentication authenticate(Authentication authentication) {
+    BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
+    String key = digest(bearer.getToken());
+    CachedAuthentication cached = authentications.getIfPresent(key);
+    if (cached != null) {
+      verificationSaved.increment(cached.verificationNanos() / 1_000_000_000d);
+      return cached.copyWithDetails(bearer.getDetails());
+    }
+
+    long start = System.nanoTime();
+    Authentication result = jwtAuthenticationProvider.authenticate(bearer);
+    long verificationNanos = System.nanoTime() - start;
+    verificationTimer.record(Duration.ofNanos(verificationNanos));
+    if (result instanceof JwtAuthenticationToken jwtAuthentication
+        && jwtAuthentication.getToken().getExpiresAt() != null
+        && jwtAuthentication.getToken().getExpiresAt().isAfter(clock.instant())) {
+      authentications.put(key, new CachedAuthentication(jwtAuthentication, verificationNanos));
+    }
+    return result;
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private record CachedAuthentication(JwtAuthenticationToken authentication, long verificationNanos) {
+
+    Instant expiresAt() {
+      return authentication.getToken().getExpiresAt();
+    }
+
+    /**
+     * The request details (such as the remote address) belong to the current request, so the cached token
+     * is rebuilt around the same decoded JWT and authorities instead of being handed out as is.
+     */
+    JwtAuthenticationToken copyWithDetails(Object details) {
+      JwtAuthenticationToken copy = new JwtAuthenticationToken(authentication.getToken(),
+          authentication.getAuthorities(), authentication.getName());
+      copy.setDetails(details);
+      return copy;
+    }
+  }
+
+  private record ExpiresAtTokenExpiry(Clock clock) implements Expiry<String, CachedAuthentication> {
+
+    @Override
+    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+      return Math.max(0, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                  long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.overflow.laundry.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Passes the config URI of the second-level cache to Caffeine as written. Hibernate resolves it as a URL
+ * first, which fails for classpath: until the embedded Tomcat registers that protocol, and inside the
+ * packaged jar turns it into a jar: URI that Caffeine does not read and silently replaces with an empty
+ * configuration. Caffeine reads classpath: and file: URIs itself.
+ */
+public class CaffeineRegionFactory extends JCacheRegionFactory {
+
+  @Override
+  protected URI getUri(SessionFactoryOptions settings, Map<String, Object> properties) {
+    Object uri = properties.get(ConfigSettings.CONFIG_URI);
+    return uri == null ? super.getUri(settings, properties) : URI.create(uri.toString());
+  }
+}
@@ -0,0 +1,18 @@
+package com.overflow.laundry.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read method whose concurrent calls with equal arguments share a single execution, see
+ * {@link RequestCoalescingAspect}. Only suited to methods without side effects whose result can be handed
+ * to several callers.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
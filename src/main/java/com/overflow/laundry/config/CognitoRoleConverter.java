@@ -7,10 +7,15 @@ import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class CognitoRoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
 
+  // Cognito groups are a small fixed set, so every token shares one authority instance per group
+  private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
   @Override
   public Collection<GrantedAuthority> convert(Jwt source) {
     ArrayList<String> cognitoGroups = (ArrayList<String>) source.getClaims().get("cognito:groups");
@@ -18,8 +23,8 @@ public class CognitoRoleConverter implements Converter<Jwt, Collection<GrantedAu
       return new ArrayList<>();
     }
     return cognitoGroups
-        .stream().map(roleName -> "ROLE_" + roleName)
-        .map(SimpleGrantedAuthority::new)
+        .stream()
+        .map(roleName -> AUTHORITIES.computeIfAbsent(roleName, name -> new SimpleGrantedAuthority("ROLE_" + name)))
         .collect(Collectors.toList());
   }
 }
@@ -0,0 +1,151 @@
+package com.overflow.laundry.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.overflow.laundry.util.LogUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.WritableResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the signing keys of the identity provider from memory. Keys are loaded at startup from the
+ * snapshot, or fetched once from the JWK set URI when there is no snapshot, and are then refreshed on a
+ * background thread. Request threads only read the last known key set: a token signed with an unknown
+ * key schedules a refresh instead of waiting for one, and a failed refresh keeps the previous keys.
+ */
+@Component
+@Profile("!local")
+public class RefreshingJwkSource implements JWKSource<SecurityContext> {
+
+  private static final int JWK_SET_SIZE_LIMIT = 50 * 1024;
+  private static final Duration UNKNOWN_KEY_REFRESH_SPACING = Duration.ofSeconds(30);
+
+  private final Resource jwkSet;
+  private final Resource snapshot;
+  private final Duration refreshInterval;
+  private final Duration timeout;
+  private final AtomicReference<JWKSet> knownKeys = new AtomicReference<>(new JWKSet());
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile Instant lastRefreshAttempt = Instant.EPOCH;
+  private ScheduledExecutorService scheduler;
+
+  public RefreshingJwkSource(
+      ResourceLoader resourceLoader,
+      @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+      @Value("${laundry.security.jwk.snapshot:}") String snapshot,
+      @Value("${laundry.security.jwk.refresh-interval:5m}") Duration refreshInterval,
+      @Value("${laundry.security.jwk.timeout:2s}") Duration timeout) {
+    this.jwkSet = resourceLoader.getResource(jwkSetUri);
+    this.snapshot = snapshot.isBlank() ? null : resourceLoader.getResource(snapshot);
+    this.refreshInterval = refreshInterval;
+    this.timeout = timeout;
+  }
+
+  @PostConstruct
+  public void start() {
+    loadSnapshot();
+    if (knownKeys.get().isEmpty()) {
+      // Warm start: pay for the first fetch during startup rather than on the first authenticated request
+      refresh();
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("jwk-refresh").daemon().factory());
+    scheduler.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  @Override
+  public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+    List<JWK> keys = jwkSelector.select(knownKeys.get());
+    if (keys.isEmpty()) {
+      requestRefresh();
+    }
+    return keys;
+  }
+
+  void refresh() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    lastRefreshAttempt = Instant.now();
+    try {
+      JWKSet fetchedKeys = JWKSet.load(jwkSet.getURL(), (int) timeout.toMillis(), (int) timeout.toMillis(),
+          JWK_SET_SIZE_LIMIT);
+      if (fetchedKeys.isEmpty()) {
+        LogUtils.logWarn("JWK set at " + jwkSet.getDescription() + " has no keys, keeping the last known keys");
+        return;
+      }
+      knownKeys.set(fetchedKeys);
+      writeSnapshot(fetchedKeys);
+    } catch (IOException | ParseException ex) {
+      LogUtils.logWarn("Could not refresh JWK set from " + jwkSet.getDescription() + ", keeping "
+          + knownKeys.get().size() + " known keys", ex);
+    } finally {
+      refreshing.set(false);
+    }
+  }
+
+  private void requestRefresh() {
+    if (scheduler != null && !refreshing.get()
+        && lastRefreshAttempt.plus(UNKNOWN_KEY_REFRESH_SPACING).isBefore(Instant.now())) {
+      scheduler.execute(this::refresh);
+    }
+  }
+
+  private void loadSnapshot() {
+    if (snapshot == null || !snapshot.exists()) {
+      return;
+    }
+    try (InputStream inputStream = snapshot.getInputStream()) {
+      knownKeys.set(JWKSet.load(inputStream));
+    } catch (IOException | ParseException ex) {
+      LogUtils.logWarn("Could not read JWK set snapshot " + snapshot.getDescription(), ex);
+    }
+  }
+
+  /**
+   * Only snapshots on the file system are written back, never classpath resources. The file is replaced
+   * atomically so a reader at startup never sees a partially written key set.
+   */
+  private void writeSnapshot(JWKSet keys) {
+    if (!(snapshot instanceof WritableResource) || !snapshot.isFile()) {
+      return;
+    }
+    try {
+      Path snapshotPath = snapshot.getFile().toPath();
+      Path temporaryPath = Files.createTempFile(snapshotPath.toAbsolutePath().getParent(), "jwks", ".tmp");
+      Files.writeString(temporaryPath, keys.toString(), StandardCharsets.UTF_8);
+      Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException ex) {
+      LogUtils.logWarn("Could not write JWK set snapshot " + snapshot.getDescription(), ex);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.overflow.laundry.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import static com.overflow.laundry.constant.MetricNames.SERVICE_COALESCED_CALLS;
+
+/**
+ * Lets concurrent calls to a {@link Coalesced} method with equal arguments wait for the call already in
+ * flight instead of running their own query, as when every kiosk of a laundry room reboots at once and
+ * asks for the same machine. The first caller runs the method and hands its result, or its exception, to
+ * everyone who arrived meanwhile; the next call after it finishes runs again, so nothing is served stale.
+ *
+ * <p>It runs before the cache and transaction interceptors, so waiting callers neither miss the cache
+ * one by one nor hold a pooled connection while they wait.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCoalescingAspect {
+
+  private final ConcurrentMap<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Counter> coalescedCalls = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  public RequestCoalescingAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("@annotation(com.overflow.laundry.config.Coalesced)")
+  public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+    String method = joinPoint.getSignature().toLongString();
+    CallKey key = new CallKey(method, Arrays.asList(joinPoint.getArgs()));
+    CompletableFuture<Object> call = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, call);
+    if (running != null) {
+      coalescedCalls.computeIfAbsent(method, signature -> registerCoalescedCalls(joinPoint)).increment();
+      return await(running);
+    }
+
+    try {
+      Object result = joinPoint.proceed();
+      call.complete(result);
+      return result;
+    } catch (Throwable ex) {
+      call.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  private Counter registerCoalescedCalls(ProceedingJoinPoint joinPoint) {
+    return Counter.builder(SERVICE_COALESCED_CALLS)
+        .description("Calls that waited for an identical call in flight instead of running their own")
+        .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+        .tag("method", joinPoint.getSignature().getName())
+        .register(meterRegistry);
+  }
+
+  private static Object await(CompletableFuture<Object> running) throws Throwable {
+    try {
+      return running.get();
+    } catch (ExecutionException ex) {
+      throw ex.getCause();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a coalesced call", ex);
+    }
+  }
+
+  /**
+   * Arguments are compared by equals, which the ids and records taken by the coalesced methods implement.
+   */
+  private record CallKey(String method, List<Object> args) {
+  }
+}
@@ -0,0 +1,59 @@
+package com.overflow.laundry.config;
+
+import com.overflow.laundry.util.LogUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Listens to the JFR {@code jdk.VirtualThreadPinned} event and logs every virtual thread that stayed pinned to its
+ * carrier longer than the threshold, usually a blocking call made inside a {@code synchronized} block of a driver.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "laundry.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 10;
+
+  private final Duration threshold;
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${laundry.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+    this.threshold = threshold;
+  }
+
+  @PostConstruct
+  public void start() {
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, VirtualThreadPinningMonitor::logPinnedEvent);
+    recordingStream.startAsync();
+  }
+
+  @PreDestroy
+  public void stop() {
+    recordingStream.close();
+  }
+
+  private static void logPinnedEvent(RecordedEvent event) {
+    String stackTrace = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+        .limit(LOGGED_FRAMES)
+        .map(RecordedFrame::getMethod)
+        .map(method -> method.getType().getName() + "." + method.getName())
+        .collect(Collectors.joining(" <- "));
+    LogUtils.logWarn("Virtual thread pinned for " + event.getDuration().toMillis() + "ms at " + stackTrace);
+  }
+}
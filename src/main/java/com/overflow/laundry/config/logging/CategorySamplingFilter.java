@@ -0,0 +1,60 @@
+package com.overflow.laundry.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.util.Duration;
+import com.overflow.laundry.util.LogSampler;
+import org.slf4j.Marker;
+
+/**
+ * Logback filter letting through at most one event per interval from the loggers under a category,
+ * declared in logback-spring.xml. Only events up to the configured level are sampled, INFO by default,
+ * so warnings and errors are never dropped. Meant for chatty framework categories that would otherwise
+ * flood the appender queue once their level is lowered to investigate an issue.
+ */
+public class CategorySamplingFilter extends TurboFilter {
+
+  private String category;
+  private Duration interval = Duration.buildBySeconds(1);
+  private Level level = Level.INFO;
+  private LogSampler logSampler;
+
+  @Override
+  public void start() {
+    if (category == null) {
+      addError("No category set for " + getName());
+      return;
+    }
+    logSampler = new LogSampler(java.time.Duration.ofMillis(interval.getMilliseconds()));
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params,
+                            Throwable t) {
+    if (!isStarted() || eventLevel == null || eventLevel.toInt() > level.toInt()
+        || !eventLevel.isGreaterOrEqual(logger.getEffectiveLevel()) || !inCategory(logger.getName())) {
+      return FilterReply.NEUTRAL;
+    }
+    return logSampler.sample(category).isPresent() ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  private boolean inCategory(String loggerName) {
+    return loggerName.startsWith(category)
+        && (loggerName.length() == category.length() || loggerName.charAt(category.length()) == '.');
+  }
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  public void setInterval(Duration interval) {
+    this.interval = interval;
+  }
+
+  public void setLevel(String level) {
+    this.level = Level.toLevel(level, Level.INFO);
+  }
+}
@@ -0,0 +1,46 @@
+package com.overflow.laundry.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Tags every log line written while serving a request with its id, under the {@value #MDC_KEY} MDC key,
+ * which the JSON console output carries as a field. The id sent by the caller or a gateway in
+ * {@value #HEADER} is kept when it looks like one, otherwise a new one is generated, and it is echoed
+ * back in the response. Runs first so security logs are tagged too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Request-Id";
+  public static final String MDC_KEY = "requestId";
+  private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    String requestId = request.getHeader(HEADER);
+    if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+      requestId = UUID.randomUUID().toString();
+    }
+    response.setHeader(HEADER, requestId);
+    MDC.put(MDC_KEY, requestId);
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.overflow.laundry.config.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Drops the unique constraint on machine.identifier alone, whatever its name. V2 only dropped it under the
+ * name V1 gives it, while databases created by Hibernate before Flyway and baselined to V1 carry a generated
+ * name, so there V2 left machine labels unique across condominiums. The constraint is looked up in the
+ * catalog, and the migration fails if a unique index on the identifier alone is still there afterwards.
+ */
+public class DropGlobalIdentifierUniqueMigration implements JavaMigration {
+
+  private static final String SINGLE_COLUMN_UNIQUE_CONSTRAINTS = "SELECT tc.constraint_name "
+      + "FROM information_schema.table_constraints tc "
+      + "JOIN information_schema.key_column_usage kcu ON kcu.constraint_schema = tc.constraint_schema "
+      + "AND kcu.constraint_name = tc.constraint_name "
+      + "WHERE tc.constraint_type = 'UNIQUE' AND LOWER(tc.table_name) = 'machine' "
+      + "AND tc.table_schema = CURRENT_SCHEMA "
+      + "GROUP BY tc.constraint_name "
+      + "HAVING COUNT(*) = 1 AND MAX(LOWER(kcu.column_name)) = 'identifier'";
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("9");
+  }
+
+  @Override
+  public String getDescription() {
+    return "drop global machine identifier unique constraint";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return null;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws SQLException {
+    Connection connection = context.getConnection();
+    List<String> constraints = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement(SINGLE_COLUMN_UNIQUE_CONSTRAINTS);
+         ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        constraints.add(resultSet.getString(1));
+      }
+    }
+    try (Statement statement = connection.createStatement()) {
+      for (String constraint : constraints) {
+        statement.execute("ALTER TABLE machine DROP CONSTRAINT \"" + constraint.replace("\"", "\"\"") + "\"");
+      }
+    }
+
+    List<String> remainingIndexes = uniqueIdentifierIndexes(connection);
+    if (!remainingIndexes.isEmpty()) {
+      throw new FlywayException("machine.identifier is still unique on its own through " + remainingIndexes
+          + ", drop it so identifiers are only unique per condominium");
+    }
+  }
+
+  private static List<String> uniqueIdentifierIndexes(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    String table = metaData.storesUpperCaseIdentifiers() ? "MACHINE" : "machine";
+    Map<String, List<String>> columnsByIndex = new HashMap<>();
+    try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true,
+        false)) {
+      while (resultSet.next()) {
+        String index = resultSet.getString("INDEX_NAME");
+        String column = resultSet.getString("COLUMN_NAME");
+        if (index != null && column != null) {
+          columnsByIndex.computeIfAbsent(index, name -> new ArrayList<>()).add(column.toLowerCase(Locale.ROOT));
+        }
+      }
+    }
+    return columnsByIndex.entrySet().stream()
+        .filter(entry -> entry.getValue().equals(List.of("identifier")))
+        .map(Map.Entry::getKey)
+        .sorted()
+        .toList();
+  }
+}
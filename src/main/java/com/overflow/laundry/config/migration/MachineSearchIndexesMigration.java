@@ -0,0 +1,50 @@
+package com.overflow.laundry.config.migration;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Indexes the machine search predicates and sort columns. On PostgreSQL a plain index only serves
+ * LIKE 'prefix%' under the C collation, so the identifier also gets a pattern_ops index there.
+ */
+public class MachineSearchIndexesMigration implements JavaMigration {
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("6");
+  }
+
+  @Override
+  public String getDescription() {
+    return "add machine search indexes";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return null;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws SQLException {
+    Connection connection = context.getConnection();
+    boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE INDEX IF NOT EXISTS ix_machine_type_id ON machine (type, id)");
+      statement.execute("CREATE INDEX IF NOT EXISTS ix_machine_identifier ON machine (identifier)");
+      if (postgres) {
+        statement.execute("CREATE INDEX IF NOT EXISTS ix_machine_identifier_pattern "
+            + "ON machine (identifier varchar_pattern_ops)");
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.overflow.laundry.config.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the free-form machine.type text with type_id, a SMALLINT referencing the machine_type table
+ * seeded with the types that existed at this version. The rows are literals rather than read from
+ * MachineType, so the migration stays the same when types are added; each new type gets its own
+ * migration. Existing values are matched regardless of case and surrounding blanks;
+ * any other value aborts the migration instead of being silently dropped. The indexes on the old column
+ * are rebuilt on the new one.
+ */
+public class NormalizeMachineTypeMigration implements JavaMigration {
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("7");
+  }
+
+  @Override
+  public String getDescription() {
+    return "normalize machine type";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return null;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws SQLException {
+    Connection connection = context.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE machine_type (id SMALLINT NOT NULL, name VARCHAR(32) NOT NULL, "
+          + "PRIMARY KEY (id), CONSTRAINT uk_machine_type_name UNIQUE (name))");
+      statement.execute("INSERT INTO machine_type (id, name) VALUES (1, 'Washer'), (2, 'Dryer')");
+
+      statement.execute("ALTER TABLE machine ADD COLUMN type_id SMALLINT");
+      statement.execute("UPDATE machine SET type_id = (SELECT t.id FROM machine_type t "
+          + "WHERE LOWER(t.name) = LOWER(TRIM(machine.type))) WHERE type IS NOT NULL");
+      List<String> unknownTypes = new ArrayList<>();
+      try (ResultSet resultSet = statement.executeQuery(
+          "SELECT DISTINCT type FROM machine WHERE type IS NOT NULL AND type_id IS NULL")) {
+        while (resultSet.next()) {
+          unknownTypes.add(resultSet.getString(1));
+        }
+      }
+      if (!unknownTypes.isEmpty()) {
+        throw new FlywayException("Machines have types outside of machine_type: " + unknownTypes);
+      }
+
+      statement.execute("DROP INDEX IF EXISTS ix_machine_condominium_identifier_covering");
+      statement.execute("DROP INDEX IF EXISTS ix_machine_type_id");
+      statement.execute("ALTER TABLE machine DROP COLUMN type");
+      statement.execute("ALTER TABLE machine ADD CONSTRAINT fk_machine_type "
+          + "FOREIGN KEY (type_id) REFERENCES machine_type (id)");
+      statement.execute("CREATE INDEX ix_machine_condominium_identifier_covering "
+          + "ON machine (condominium_id, identifier, id, type_id, version)");
+      statement.execute("CREATE INDEX ix_machine_type_id ON machine (type_id, id)");
+    }
+  }
+}
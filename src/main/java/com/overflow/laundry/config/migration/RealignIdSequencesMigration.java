@@ -0,0 +1,67 @@
+package com.overflow.laundry.config.migration;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Moves the id sequences past any id already stored before the entities switch to the pooled-lo
+ * optimizer, which hands out the block that starts at the value returned by the sequence.
+ */
+public class RealignIdSequencesMigration implements JavaMigration {
+
+  private static final Map<String, String> SEQUENCES_BY_TABLE = Map.of(
+      "condominium", "condominium_seq",
+      "machine", "machine_seq");
+
+  @Override
+  public MigrationVersion getVersion() {
+    return MigrationVersion.fromVersion("3");
+  }
+
+  @Override
+  public String getDescription() {
+    return "realign id sequences for pooled lo";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return null;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws SQLException {
+    Connection connection = context.getConnection();
+    boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+    try (Statement statement = connection.createStatement()) {
+      for (Map.Entry<String, String> entry : SEQUENCES_BY_TABLE.entrySet()) {
+        String sequence = entry.getValue();
+        long maxId = queryForLong(statement, "SELECT COALESCE(MAX(id), 0) FROM " + entry.getKey());
+        long nextValue = queryForLong(statement, h2
+            ? "SELECT NEXT VALUE FOR " + sequence
+            : "SELECT nextval('" + sequence + "')");
+        if (nextValue <= maxId) {
+          statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+        }
+      }
+    }
+  }
+
+  private static long queryForLong(Statement statement, String sql) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery(sql)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.overflow.laundry.config.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Exposes the slowest statements kept by the {@link SqlStatementRecorder} at /actuator/slowqueries. A DELETE
+ * on the endpoint starts a new observation window, for instance right before reproducing a slow request.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+  private final SqlStatementRecorder recorder;
+
+  public SlowQueriesEndpoint(SqlStatementRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    return recorder.slowest();
+  }
+
+  @DeleteOperation
+  public void reset() {
+    recorder.reset();
+  }
+}
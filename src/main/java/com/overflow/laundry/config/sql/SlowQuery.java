@@ -0,0 +1,10 @@
+package com.overflow.laundry.config.sql;
+
+import java.time.Instant;
+
+/**
+ * One traced statement execution. The duration covers the execution and, for queries, the time spent
+ * fetching rows, but not the work done by the caller between two rows.
+ */
+public record SlowQuery(String sql, double durationMillis, long rows, String origin, Instant executedAt) {
+}
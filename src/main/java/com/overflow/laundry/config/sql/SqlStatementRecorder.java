@@ -0,0 +1,96 @@
+package com.overflow.laundry.config.sql;
+
+import com.overflow.laundry.util.LogUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Receives the timing of every statement run through {@link TracingDataSource}. Statements at or above
+ * the threshold are logged, and the slowest executions seen since startup, or since the last reset, are
+ * kept for the slowqueries actuator endpoint. The calling service method is only resolved for statements
+ * that are logged or kept, so fast statements cost two clock reads and a comparison.
+ */
+public class SqlStatementRecorder {
+
+  private static final String SERVICE_PACKAGE = "com.overflow.laundry.service.";
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+  private static final Comparator<SlowQuery> BY_DURATION = Comparator.comparingDouble(SlowQuery::durationMillis);
+
+  private final long thresholdNanos;
+  private final int topSize;
+  private final Clock clock;
+  private final PriorityQueue<SlowQuery> slowest;
+  private volatile long slowestFloorNanos;
+
+  public SqlStatementRecorder(Duration threshold, int topSize, Clock clock) {
+    this.thresholdNanos = threshold.toNanos();
+    this.topSize = topSize;
+    this.clock = clock;
+    this.slowest = new PriorityQueue<>(topSize + 1, BY_DURATION);
+  }
+
+  public void record(String sql, long durationNanos, long rows) {
+    boolean slow = durationNanos >= thresholdNanos;
+    if (!slow && durationNanos <= slowestFloorNanos) {
+      return;
+    }
+    SlowQuery query = new SlowQuery(sql, durationNanos / 1_000_000d, rows, originatingServiceMethod(),
+        clock.instant());
+    if (slow) {
+      LogUtils.logWarn("Slow SQL took " + String.format("%.1f", query.durationMillis()) + "ms for " + rows
+          + " rows from " + query.origin() + ": " + sql);
+    }
+    keepIfSlowest(query, durationNanos);
+  }
+
+  public List<SlowQuery> slowest() {
+    synchronized (slowest) {
+      List<SlowQuery> queries = new ArrayList<>(slowest);
+      queries.sort(BY_DURATION.reversed());
+      return queries;
+    }
+  }
+
+  public void reset() {
+    synchronized (slowest) {
+      slowest.clear();
+      slowestFloorNanos = 0;
+    }
+  }
+
+  private void keepIfSlowest(SlowQuery query, long durationNanos) {
+    if (topSize <= 0) {
+      return;
+    }
+    synchronized (slowest) {
+      slowest.add(query);
+      if (slowest.size() > topSize) {
+        slowest.poll();
+      }
+      if (slowest.size() == topSize) {
+        slowestFloorNanos = (long) (slowest.peek().durationMillis() * 1_000_000);
+      }
+    }
+  }
+
+  /**
+   * The innermost service method on the stack, skipping the proxies Spring generates around services.
+   * Statements run outside a service, such as migrations, have no origin.
+   */
+  private static String originatingServiceMethod() {
+    return STACK_WALKER.walk(frames -> frames
+        .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE) && !frame.getClassName().contains("$$"))
+        .findFirst()
+        .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+        .orElse(null));
+  }
+
+  private static String simpleName(String className) {
+    return className.substring(className.lastIndexOf('.') + 1);
+  }
+}
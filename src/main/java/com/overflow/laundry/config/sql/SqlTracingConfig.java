@@ -0,0 +1,47 @@
+package com.overflow.laundry.config.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Replaces show-sql: the pool is wrapped in a {@link TracingDataSource} that only logs statements slower than
+ * the threshold, with their duration, row count and calling service method. When disabled nothing is
+ * wrapped, so connections are handed out by Hikari directly.
+ */
+@Configuration
+@ConditionalOnProperty(name = "laundry.sql-tracing.enabled", havingValue = "true")
+public class SqlTracingConfig {
+
+  @Bean
+  public SqlStatementRecorder sqlStatementRecorder(
+      @Value("${laundry.sql-tracing.slow-threshold:200ms}") Duration slowThreshold,
+      @Value("${laundry.sql-tracing.top-size:20}") int topSize) {
+    return new SqlStatementRecorder(slowThreshold, topSize, Clock.systemUTC());
+  }
+
+  @Bean
+  public SlowQueriesEndpoint slowQueriesEndpoint(SqlStatementRecorder sqlStatementRecorder) {
+    return new SlowQueriesEndpoint(sqlStatementRecorder);
+  }
+
+  @Bean
+  public static BeanPostProcessor tracingDataSourcePostProcessor(ObjectProvider<SqlStatementRecorder> recorder) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+          return new TracingDataSource(dataSource, recorder.getObject());
+        }
+        return bean;
+      }
+    };
+  }
+}
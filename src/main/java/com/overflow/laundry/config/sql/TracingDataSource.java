@@ -0,0 +1,239 @@
+package com.overflow.laundry.config.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pool so that every statement reports its execution time and row count to the
+ * {@link SqlStatementRecorder}. Connections, statements and result sets are JDK proxies forwarding every
+ * call to the pooled objects and timing only the execute methods and the fetching of rows.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+  private static final Set<String> UPDATE_METHODS = Set.of("executeUpdate", "executeLargeUpdate");
+  private static final Set<String> BATCH_METHODS = Set.of("executeBatch", "executeLargeBatch");
+
+  private final SqlStatementRecorder recorder;
+
+  public TracingDataSource(DataSource target, SqlStatementRecorder recorder) {
+    super(target);
+    this.recorder = recorder;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[] {type},
+        handler));
+  }
+
+  /**
+   * Forwards calls to the wrapped JDBC object. Identity is the proxy's own, since Hibernate keeps
+   * statements and result sets in hash maps to release them.
+   */
+  private abstract static class ForwardingHandler implements InvocationHandler {
+
+    private final Object target;
+
+    ForwardingHandler(Object target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      return switch (method.getName()) {
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        default -> intercept(proxy, method, args);
+      };
+    }
+
+    abstract Object intercept(Object proxy, Method method, Object[] args) throws Throwable;
+
+    Object forward(Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getCause();
+      }
+    }
+  }
+
+  private final class ConnectionHandler extends ForwardingHandler {
+
+    ConnectionHandler(Connection connection) {
+      super(connection);
+    }
+
+    @Override
+    Object intercept(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = forward(method, args);
+      return switch (method.getName()) {
+        case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+        case "prepareStatement", "prepareCall" -> proxy(method.getReturnType().asSubclass(Statement.class),
+            new StatementHandler((Statement) result, (String) args[0]));
+        default -> result;
+      };
+    }
+  }
+
+  private final class StatementHandler extends ForwardingHandler {
+
+    private final Statement statement;
+    private final String preparedSql;
+    private String batchSql;
+    private int batchSize;
+    private ResultSetHandler openResultSet;
+
+    StatementHandler(Statement statement, String preparedSql) {
+      super(statement);
+      this.statement = statement;
+      this.preparedSql = preparedSql;
+    }
+
+    @Override
+    Object intercept(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if (name.startsWith("execute")) {
+        return execute(method, args);
+      }
+      switch (name) {
+        case "addBatch" -> {
+          batchSize++;
+          if (batchSql == null) {
+            batchSql = args == null ? preparedSql : (String) args[0];
+          }
+        }
+        case "clearBatch" -> {
+          batchSize = 0;
+          batchSql = null;
+        }
+        case "getResultSet" -> {
+          ResultSet resultSet = (ResultSet) forward(method, args);
+          return openResultSet != null && resultSet != null ? openResultSet.wrap(resultSet) : resultSet;
+        }
+        case "close" -> closeResultSet();
+        default -> {
+        }
+      }
+      return forward(method, args);
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+      closeResultSet();
+      String name = method.getName();
+      String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+      if (BATCH_METHODS.contains(name)) {
+        sql = batchSize + " x " + batchSql;
+      }
+      long start = System.nanoTime();
+      Object result = forward(method, args);
+      long elapsed = System.nanoTime() - start;
+
+      if (result instanceof ResultSet resultSet) {
+        openResultSet = new ResultSetHandler(sql, elapsed);
+        return openResultSet.wrap(resultSet);
+      } else if (Boolean.TRUE.equals(result)) {
+        openResultSet = new ResultSetHandler(sql, elapsed);
+      } else if (Boolean.FALSE.equals(result)) {
+        recorder.record(sql, elapsed, updateCount());
+      } else if (UPDATE_METHODS.contains(name)) {
+        recorder.record(sql, elapsed, ((Number) result).longValue());
+      } else if (BATCH_METHODS.contains(name)) {
+        recorder.record(sql, elapsed, sumOfUpdateCounts(result));
+        batchSize = 0;
+        batchSql = null;
+      }
+      return result;
+    }
+
+    /**
+     * Falls back to the int count for drivers that leave getLargeUpdateCount unimplemented.
+     */
+    private long updateCount() throws SQLException {
+      try {
+        return statement.getLargeUpdateCount();
+      } catch (UnsupportedOperationException | SQLFeatureNotSupportedException ex) {
+        return statement.getUpdateCount();
+      }
+    }
+
+    private void closeResultSet() {
+      if (openResultSet != null) {
+        openResultSet.finish();
+        openResultSet = null;
+      }
+    }
+
+    private static long sumOfUpdateCounts(Object counts) {
+      long[] values = counts instanceof int[] ints ? Arrays.stream(ints).asLongStream().toArray() : (long[]) counts;
+      return Arrays.stream(values).filter(count -> count > 0).sum();
+    }
+  }
+
+  private final class ResultSetHandler {
+
+    private final String sql;
+    private long elapsedNanos;
+    private long rows;
+    private boolean finished;
+
+    ResultSetHandler(String sql, long executionNanos) {
+      this.sql = sql;
+      this.elapsedNanos = executionNanos;
+    }
+
+    ResultSet wrap(ResultSet resultSet) {
+      return proxy(ResultSet.class, new ForwardingHandler(resultSet) {
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args) throws Throwable {
+          return switch (method.getName()) {
+            case "next" -> next(method, args);
+            case "close" -> {
+              finish();
+              yield forward(method, args);
+            }
+            default -> forward(method, args);
+          };
+        }
+
+        private Object next(Method method, Object[] args) throws Throwable {
+          long start = System.nanoTime();
+          Object hasRow = forward(method, args);
+          elapsedNanos += System.nanoTime() - start;
+          if (Boolean.TRUE.equals(hasRow)) {
+            rows++;
+          }
+          return hasRow;
+        }
+      });
+    }
+
+    void finish() {
+      if (!finished) {
+        finished = true;
+        recorder.record(sql, elapsedNanos, rows);
+      }
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.overflow.laundry.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheNames {
+
+  public static final String MACHINES = "machines";
+  public static final String MACHINES_BY_IDENTIFIER = "machinesByIdentifier";
+  public static final String CONDOMINIUMS = "condominiums";
+  public static final String JWT_AUTHENTICATIONS = "jwtAuthentications";
+
+  // Hibernate second-level cache regions, configured in hibernate-cache.conf
+  public static final String CONDOMINIUM_REGION = "condominium";
+  public static final String MACHINE_BY_IDENTIFIER_REGION = "machineByIdentifier";
+
+}
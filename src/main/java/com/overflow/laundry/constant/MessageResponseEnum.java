@@ -5,11 +5,14 @@ import org.springframework.http.HttpStatus;
 public  enum MessageResponseEnum {
 
   MACHINE_CREATED(HttpStatus.CREATED, "Machine created successfully"),
+  MACHINE_BATCH_PROCESSED(HttpStatus.MULTI_STATUS, "Machine batch processed"),
   MACHINE_FOUND(HttpStatus.OK, "Machine found"),
   MACHINE_UPDATED(HttpStatus.ACCEPTED, "Machine updated successfully"),
   MACHINE_DELETED(HttpStatus.NO_CONTENT, "Machine deleted successfully"),
+  MACHINE_BATCH_DELETED(HttpStatus.OK, "Machine batch deleted"),
   MACHINE_NOT_FOUND(HttpStatus.NOT_FOUND, "Machine not found"),
   MACHINE_IDENTIFIER_ALREADY_IN_USE(HttpStatus.CONFLICT, "Machine identifier already in use"),
+  MACHINE_VERSION_CONFLICT(HttpStatus.CONFLICT, "Machine was modified by another request"),
 
   CONDOMINIUM_CREATED(HttpStatus.CREATED, "Condominium created successfully"),
   CONDOMINIUM_NOT_FOUND(HttpStatus.NOT_FOUND, "Condominium not found"),
@@ -0,0 +1,15 @@
+package com.overflow.laundry.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricNames {
+
+  public static final String SERVICE_INVOCATIONS = "laundry.service.invocations";
+  public static final String SERVICE_COALESCED_CALLS = "laundry.service.coalesced";
+  public static final String EXPECTED_ERRORS = "laundry.errors.expected";
+  public static final String TOKEN_VERIFICATION = "laundry.security.token.verification";
+  public static final String TOKEN_VERIFICATION_SAVED = "laundry.security.token.verification.saved";
+
+}
@@ -10,7 +10,17 @@ public class ObjectValidatorErrors {
   public static final String MACHINE_CONDOMINIUM_ID_NOT_EMPTY_NULL =
       "Machine condominium ID must not be provided for creation";
   public static final String MACHINE_TYPE_OF_MACHINE_NOT_EMPTY_NULL = "Machine type must not be empty or null";
+  public static final String MACHINE_TYPE_NOT_SUPPORTED = "Machine type must be Washer or Dryer";
   public static final String MACHINE_ID_IS_PROVIDED_ON_CREATION = "Machine ID should NOT be provided for creation";
+  public static final String MACHINE_VERSION_IS_PROVIDED_ON_CREATION =
+      "Machine version should NOT be provided for creation";
+  public static final String MACHINE_VERSION_NOT_PROVIDED_ON_UPDATE = "Machine version must be provided for update";
+  public static final int MACHINE_BATCH_MAX_SIZE = 1000;
+  public static final String MACHINE_BATCH_SIZE_INVALID = "Machine batch must contain between 1 and "
+      + MACHINE_BATCH_MAX_SIZE + " machines";
+  public static final int MULTI_GET_MAX_SIZE = 500;
+  public static final String MULTI_GET_SIZE_INVALID = "Ids must contain between 1 and " + MULTI_GET_MAX_SIZE + " ids";
+  public static final String MULTI_GET_ID_EMPTY = "Ids must not contain empty values";
 
   public static final String CONDOMINIUM_EMAIL_NOT_EMPTY_NULL = "Condominium email must not be empty or null";
   public static final String CONDOMINIUM_EMAIL_FORMAT_NOT_VALID = "Condominium email format is not valid";
@@ -21,6 +31,10 @@ public class ObjectValidatorErrors {
   public static final String PAGINATION_PAGE_INVALID = "Page must be a non-negative integer higher than 0.";
   public static final String PAGINATION_SIZE_INVALID = "Size must be a positive integer.";
   public static final String PAGINATION_DIRECTION_FORMAT_INVALID = "Direction must be ASC or DESC";
+  public static final String PAGINATION_CURSOR_INVALID = "Cursor is not valid for the requested sorting.";
+  public static final String LISTING_MODES_EXCLUSIVE =
+      "Only one of ids, after and withTotal=false can be used at a time";
+  public static final String MACHINE_SEARCH_SORT_INVALID = "Machine search can only be sorted by id or identifier";
 
 
 }
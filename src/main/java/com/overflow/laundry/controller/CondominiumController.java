@@ -1,13 +1,22 @@
 package com.overflow.laundry.controller;
 
 import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
 import com.overflow.laundry.model.dto.CondominiumRequestDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.service.CondominiumService;
+import com.overflow.laundry.service.MachineService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,17 +25,26 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Set;
+
 import static com.overflow.laundry.constant.MessageResponseEnum.CONDOMINIUM_CREATED;
 import static com.overflow.laundry.constant.MessageResponseEnum.CONDOMINIUM_FOUND;
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_FOUND;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_ID_EMPTY;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_MAX_SIZE;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_SIZE_INVALID;
 
 @RestController
 @RequestMapping("/condominiums")
+@Validated
 public class CondominiumController {
 
   private final CondominiumService condominiumService;
+  private final MachineService machineService;
 
-  public CondominiumController(CondominiumService condominiumService) {
+  public CondominiumController(CondominiumService condominiumService, MachineService machineService) {
     this.condominiumService = condominiumService;
+    this.machineService = machineService;
   }
 
   @PostMapping
@@ -42,7 +60,28 @@ public class CondominiumController {
     return StandardResponse.success(CONDOMINIUM_FOUND, condominium);
   }
 
-  @GetMapping
+  @GetMapping(params = {"ids", "!after", "withTotal!=false"})
+  public ResponseEntity<StandardResponse<MultiGetResponseDto<CondominiumResponseDto>>> getCondominiumsByIds(
+      @RequestParam @NotNull @Size(min = 1, max = MULTI_GET_MAX_SIZE, message = MULTI_GET_SIZE_INVALID)
+      Set<@NotNull(message = MULTI_GET_ID_EMPTY) Long> ids) {
+    MultiGetResponseDto<CondominiumResponseDto> condominiums = condominiumService.getCondominiumsByIds(ids);
+    return StandardResponse.success(CONDOMINIUM_FOUND, condominiums);
+  }
+
+  @GetMapping("/{id}/machines")
+  public ResponseEntity<StandardResponse<PaginationResponseDto<CondominiumMachineResponseDto>>> getCondominiumMachines(
+      @PathVariable Long id,
+      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String direction) {
+    PaginationRequestDto paginationRequest = new PaginationRequestDto(page, size, "identifier",
+        direction == null ? "ASC" : direction);
+    PaginationResponseDto<CondominiumMachineResponseDto> machines =
+        machineService.getMachinesByCondominium(id, paginationRequest);
+    return StandardResponse.success(MACHINE_FOUND, machines);
+  }
+
+  @GetMapping(params = {"!ids", "!after", "withTotal!=false"})
   public ResponseEntity<StandardResponse<PaginationResponseDto<CondominiumResponseDto>>> getAllCondominiums(
       @RequestParam(required = false) Integer page,
       @RequestParam(required = false) Integer size,
@@ -53,4 +92,28 @@ public class CondominiumController {
         condominiumService.getAllCondominiums(paginationRequest);
     return StandardResponse.success(CONDOMINIUM_FOUND, condominiums);
   }
+
+  @GetMapping(params = {"withTotal=false", "!ids", "!after"})
+  public ResponseEntity<StandardResponse<SlicePaginationResponseDto<CondominiumResponseDto>>> getCondominiumsSlice(
+      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction) {
+    PaginationRequestDto paginationRequest = new PaginationRequestDto(page, size, sortBy, direction);
+    SlicePaginationResponseDto<CondominiumResponseDto> condominiums =
+        condominiumService.getCondominiumsSlice(paginationRequest);
+    return StandardResponse.success(CONDOMINIUM_FOUND, condominiums);
+  }
+
+  @GetMapping(params = {"after", "!ids", "withTotal!=false"})
+  public ResponseEntity<StandardResponse<CursorPaginationResponseDto<CondominiumResponseDto>>> getCondominiumsByCursor(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction) {
+    CursorPaginationRequestDto cursorPaginationRequest = new CursorPaginationRequestDto(after, size, sortBy, direction);
+    CursorPaginationResponseDto<CondominiumResponseDto> condominiums =
+        condominiumService.getCondominiumsByCursor(cursorPaginationRequest);
+    return StandardResponse.success(CONDOMINIUM_FOUND, condominiums);
+  }
 }
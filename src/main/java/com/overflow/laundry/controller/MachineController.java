@@ -2,14 +2,24 @@ package com.overflow.laundry.controller;
 
 
 import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.service.MachineService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,10 +32,21 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_BATCH_DELETED;
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_BATCH_PROCESSED;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_CREATED;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_DELETED;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_FOUND;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_UPDATED;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_BATCH_MAX_SIZE;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_BATCH_SIZE_INVALID;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_ID_EMPTY;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_MAX_SIZE;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_SIZE_INVALID;
 
 
 @RestController
@@ -47,12 +68,34 @@ public class MachineController {
 
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<StandardResponse<MachineBatchResponseDto>> createMachines(
+      @RequestBody @NotNull @Size(min = 1, max = MACHINE_BATCH_MAX_SIZE, message = MACHINE_BATCH_SIZE_INVALID)
+      List<@Valid MachineRequestDto> machineRequestDtos) {
+    MachineBatchResponseDto createdMachines = machineService.createMachines(machineRequestDtos);
+    return StandardResponse.success(MACHINE_BATCH_PROCESSED, createdMachines);
+  }
+
+  @GetMapping("/export")
+  public void exportMachines(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    machineService.exportMachines(response.getOutputStream());
+  }
+
   @GetMapping("/{id}")
   public ResponseEntity<StandardResponse<MachineResponseDto>> getMachineById(@PathVariable Long id) {
     MachineResponseDto machine = machineService.getMachineById(id);
     return StandardResponse.success(MACHINE_FOUND, machine);
   }
 
+  @GetMapping(params = {"ids", "!after", "withTotal!=false"})
+  public ResponseEntity<StandardResponse<MultiGetResponseDto<MachineResponseDto>>> getMachinesByIds(
+      @RequestParam @NotNull @Size(min = 1, max = MULTI_GET_MAX_SIZE, message = MULTI_GET_SIZE_INVALID)
+      Set<@NotNull(message = MULTI_GET_ID_EMPTY) Long> ids) {
+    MultiGetResponseDto<MachineResponseDto> machines = machineService.getMachinesByIds(ids);
+    return StandardResponse.success(MACHINE_FOUND, machines);
+  }
+
   @PutMapping
   public ResponseEntity<StandardResponse<MachineResponseDto>> updateMachine(
       @Valid @RequestBody MachineRequestDto machineRequestDto) {
@@ -66,6 +109,14 @@ public class MachineController {
     return StandardResponse.success(MACHINE_DELETED, "");
   }
 
+  @DeleteMapping
+  public ResponseEntity<StandardResponse<MachineBatchDeleteResponseDto>> deleteMachines(
+      @RequestParam @NotNull @Size(min = 1, max = MACHINE_BATCH_MAX_SIZE, message = MACHINE_BATCH_SIZE_INVALID)
+      Set<@NotNull(message = MULTI_GET_ID_EMPTY) Long> ids) {
+    MachineBatchDeleteResponseDto deletedMachines = machineService.deleteMachines(ids);
+    return StandardResponse.success(MACHINE_BATCH_DELETED, deletedMachines);
+  }
+
 
   @GetMapping("/identifier")
   public ResponseEntity<StandardResponse<MachineResponseDto>> getMachineByIdentifier(
@@ -75,7 +126,24 @@ public class MachineController {
     return StandardResponse.success(MACHINE_FOUND, machine);
   }
 
-  @GetMapping
+  @GetMapping("/search")
+  public ResponseEntity<StandardResponse<PaginationResponseDto<MachineResponseDto>>> searchMachines(
+      @RequestParam(required = false) String type,
+      @RequestParam(required = false) Long condominiumId,
+      @RequestParam(required = false) String identifierPrefix,
+      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction) {
+
+    MachineSearchRequestDto searchRequest = new MachineSearchRequestDto(type, condominiumId, identifierPrefix);
+    PaginationRequestDto paginationRequest = new PaginationRequestDto(page, size, sortBy, direction);
+    PaginationResponseDto<MachineResponseDto> machines = machineService.searchMachines(searchRequest,
+        paginationRequest);
+    return StandardResponse.success(MACHINE_FOUND, machines);
+  }
+
+  @GetMapping(params = {"!ids", "!after", "withTotal!=false"})
   public ResponseEntity<StandardResponse<PaginationResponseDto<MachineResponseDto>>> getAllMachines(
       @RequestParam(required = false) Integer page,
       @RequestParam(required = false) Integer size,
@@ -87,4 +155,29 @@ public class MachineController {
     return StandardResponse.success(MACHINE_FOUND, allMachines);
 
   }
+
+  @GetMapping(params = {"withTotal=false", "!ids", "!after"})
+  public ResponseEntity<StandardResponse<SlicePaginationResponseDto<MachineResponseDto>>> getMachinesSlice(
+      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction) {
+
+    PaginationRequestDto paginationRequest = new PaginationRequestDto(page, size, sortBy, direction);
+    SlicePaginationResponseDto<MachineResponseDto> machines = machineService.getMachinesSlice(paginationRequest);
+    return StandardResponse.success(MACHINE_FOUND, machines);
+  }
+
+  @GetMapping(params = {"after", "!ids", "withTotal!=false"})
+  public ResponseEntity<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>> getMachinesByCursor(
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction) {
+
+    CursorPaginationRequestDto cursorPaginationRequest = new CursorPaginationRequestDto(after, size, sortBy, direction);
+    CursorPaginationResponseDto<MachineResponseDto> machines =
+        machineService.getMachinesByCursor(cursorPaginationRequest);
+    return StandardResponse.success(MACHINE_FOUND, machines);
+  }
 }
@@ -0,0 +1,13 @@
+package com.overflow.laundry.exception;
+
+/**
+ * Base of the errors the API answers with a 4xx, such as a machine that does not exist. They are part
+ * of the normal flow, thrown for every probe of a missing id, so they skip filling in the stack trace,
+ * which is the bulk of the cost of throwing, and are not meant to be logged with one.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+  protected BusinessException(String message) {
+    super(message, null, false, false);
+  }
+}
@@ -1,6 +1,6 @@
 package com.overflow.laundry.exception;
 
-public class CondominiumNotFoundException extends RuntimeException {
+public class CondominiumNotFoundException extends BusinessException {
   public CondominiumNotFoundException(String message) {
     super(message);
   }
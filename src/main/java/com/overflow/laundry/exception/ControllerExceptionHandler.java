@@ -1,18 +1,30 @@
 package com.overflow.laundry.exception;
 
 import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.util.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.overflow.laundry.constant.MessageResponseEnum.BAD_REQUEST;
@@ -20,7 +32,10 @@ import static com.overflow.laundry.constant.MessageResponseEnum.INTERNAL_SERVER_
 import static com.overflow.laundry.constant.MessageResponseEnum.INVALID_PARAMETER;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_IDENTIFIER_ALREADY_IN_USE;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_NOT_FOUND;
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_VERSION_CONFLICT;
 import static com.overflow.laundry.constant.MessageResponseEnum.NOT_FOUND;
+import static com.overflow.laundry.constant.MetricNames.EXPECTED_ERRORS;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.LISTING_MODES_EXCLUSIVE;
 import static com.overflow.laundry.util.LogUtils.logError;
 import static com.overflow.laundry.util.LogUtils.logWarn;
 
@@ -28,6 +43,16 @@ import static com.overflow.laundry.util.LogUtils.logWarn;
 @RestControllerAdvice
 public class ControllerExceptionHandler {
 
+  private final MeterRegistry meterRegistry;
+  private final LogSampler logSampler;
+  private final Map<String, Counter> expectedErrorCounters = new ConcurrentHashMap<>();
+
+  public ControllerExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry,
+                                    @Value("${laundry.errors.log-sample-interval:10s}") Duration logSampleInterval) {
+    this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    this.logSampler = new LogSampler(logSampleInterval);
+  }
+
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<StandardResponse<StandardErrorMessage>> handleAllExceptions(
       Exception ex, WebRequest request) {
@@ -86,6 +111,21 @@ public class ControllerExceptionHandler {
     return StandardResponse.error(INVALID_PARAMETER, message);
   }
 
+  /**
+   * The listings of a collection are mapped on mutually exclusive parameters, so a request mixing them
+   * matches none of the handlers.
+   */
+  @ExceptionHandler(UnsatisfiedServletRequestParameterException.class)
+  public ResponseEntity<StandardResponse<StandardErrorMessage>> handleUnsatisfiedServletRequestParameterException(
+      UnsatisfiedServletRequestParameterException ex, WebRequest request) {
+    reportExpectedError(ex, LISTING_MODES_EXCLUSIVE);
+    StandardErrorMessage message = StandardErrorMessage.builder()
+        .details(LISTING_MODES_EXCLUSIVE)
+        .path(request.getDescription(false).replace("uri=", ""))
+        .build();
+    return StandardResponse.error(INVALID_PARAMETER, message);
+  }
+
   @ExceptionHandler(MachineNotFoundException.class)
   public ResponseEntity<StandardResponse<StandardErrorMessage>> handleMachineNotFoundException(
       MachineNotFoundException ex, WebRequest request) {
@@ -108,6 +148,13 @@ public class ControllerExceptionHandler {
     return StandardResponse.error(MACHINE_IDENTIFIER_ALREADY_IN_USE, message);
   }
 
+  @ExceptionHandler(MachineVersionConflictException.class)
+  public ResponseEntity<StandardResponse<StandardErrorMessage>> handleMachineVersionConflictException(
+      MachineVersionConflictException ex, WebRequest request) {
+    StandardErrorMessage message = getStandardErrorMessage(ex, request);
+    return StandardResponse.error(MACHINE_VERSION_CONFLICT, message);
+  }
+
   @ExceptionHandler(CondominiumNotFoundException.class)
   public ResponseEntity<StandardResponse<StandardErrorMessage>> handleCondominiumNotFoundException(
       CondominiumNotFoundException ex, WebRequest request) {
@@ -122,19 +169,43 @@ public class ControllerExceptionHandler {
     return StandardResponse.error(INVALID_PARAMETER, message);
   }
 
+  /**
+   * Names the violation after the last parameter or property of its path, so a constraint on the elements
+   * of a collection, whose path ends with an unnamed container element, is reported on the collection.
+   */
   private String formatConstraintViolationMessage(ConstraintViolation<?> violation) {
     String fieldName = violation.getPropertyPath().toString();
-    fieldName = fieldName.contains(".") ? fieldName.substring(fieldName.lastIndexOf('.') + 1) : fieldName;
+    for (Path.Node node : violation.getPropertyPath()) {
+      if (node.getName() != null && node.getKind() != ElementKind.CONTAINER_ELEMENT) {
+        fieldName = node.getName();
+      }
+    }
     return "Parameter '" + fieldName + "' " + violation.getMessage();
   }
 
-  private static StandardErrorMessage getStandardErrorMessage(Exception ex, WebRequest request) {
+  private StandardErrorMessage getStandardErrorMessage(Exception ex, WebRequest request) {
     String messageDetail = ex.getLocalizedMessage();
-    logWarn(messageDetail, ex);
+    reportExpectedError(ex, messageDetail);
     return StandardErrorMessage.builder()
         .details(messageDetail)
         .path(request.getDescription(false).replace("uri=", ""))
         .build();
   }
 
+  /**
+   * Errors answered with a 4xx are counted per type and logged at most once per interval and type,
+   * since probes for missing ids would otherwise write a line per request. They are logged with their
+   * type and message only; unexpected errors, answered with a 500, are logged every time with their
+   * stack trace.
+   */
+  private void reportExpectedError(Exception ex, String messageDetail) {
+    String type = ex.getClass().getSimpleName();
+    expectedErrorCounters.computeIfAbsent(type, key -> Counter.builder(EXPECTED_ERRORS)
+            .description("Errors answered with a 4xx status")
+            .tag("exception", key)
+            .register(meterRegistry))
+        .increment();
+    logSampler.sample(type).ifPresent(suppressed -> logWarn(type + ": " + messageDetail
+        + (suppressed == 0 ? "" : " (" + suppressed + " more " + type + " since last logged)")));
+  }
 }
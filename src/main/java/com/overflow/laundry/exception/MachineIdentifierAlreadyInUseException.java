@@ -1,6 +1,6 @@
 package com.overflow.laundry.exception;
 
-public class MachineIdentifierAlreadyInUseException extends RuntimeException {
+public class MachineIdentifierAlreadyInUseException extends BusinessException {
   public MachineIdentifierAlreadyInUseException(String message) {
     super(message);
   }
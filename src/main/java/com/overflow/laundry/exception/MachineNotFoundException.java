@@ -1,6 +1,6 @@
 package com.overflow.laundry.exception;
 
-public class MachineNotFoundException extends RuntimeException {
+public class MachineNotFoundException extends BusinessException {
   public MachineNotFoundException(String message) {
     super(message);
   }
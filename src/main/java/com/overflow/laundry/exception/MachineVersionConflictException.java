@@ -0,0 +1,7 @@
+package com.overflow.laundry.exception;
+
+public class MachineVersionConflictException extends BusinessException {
+  public MachineVersionConflictException(String message) {
+    super(message);
+  }
+}
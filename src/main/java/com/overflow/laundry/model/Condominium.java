@@ -1,27 +1,36 @@
 package com.overflow.laundry.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
+import static com.overflow.laundry.constant.CacheNames.CONDOMINIUM_REGION;
 
 @Data
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CONDOMINIUM_REGION)
 public class Condominium {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "condominium_seq")
+  @SequenceGenerator(name = "condominium_seq", sequenceName = "condominium_seq", allocationSize = 50)
   private Long id;
   private String name;
   private String address;
@@ -32,4 +41,7 @@ public class Condominium {
   @OneToMany(mappedBy = "condominium")
   private Set<Machine> machines = new HashSet<>();
 
+  @Version
+  private Long version;
+
 }
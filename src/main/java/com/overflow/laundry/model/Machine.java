@@ -3,11 +3,16 @@ package com.overflow.laundry.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,16 +21,27 @@ import lombok.NoArgsConstructor;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = Machine.CONDOMINIUM_IDENTIFIER_UNIQUE_CONSTRAINT,
+    columnNames = {"condominium_id", "identifier"}))
 public class Machine {
+
+  public static final String CONDOMINIUM_IDENTIFIER_UNIQUE_CONSTRAINT = "uk_machine_condominium_identifier";
+  public static final String CONDOMINIUM_FOREIGN_KEY = "fknkvc3hig4k7um8jub3nrv4gvg";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "machine_seq")
+  @SequenceGenerator(name = "machine_seq", sequenceName = "machine_seq", allocationSize = 50)
   private Long id;
-  @Column(unique = true)
   private String identifier;
-  private String type;
+  @Column(name = "type_id")
+  private MachineType type;
 
   @ManyToOne
-  @JoinColumn(name = "condominium_id", referencedColumnName = "id")
+  @JoinColumn(name = "condominium_id", referencedColumnName = "id",
+      foreignKey = @ForeignKey(name = Machine.CONDOMINIUM_FOREIGN_KEY))
   private Condominium condominium;
 
+  @Version
+  private Long version;
+
 }
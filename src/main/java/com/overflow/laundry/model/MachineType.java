@@ -0,0 +1,64 @@
+package com.overflow.laundry.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_TYPE_NOT_SUPPORTED;
+
+/**
+ * Dictionary of machine types. Rows store the code, a small integer referencing the machine_type table,
+ * while the API keeps exchanging the label.
+ */
+@Getter
+public enum MachineType {
+
+  WASHER((short) 1, "Washer"),
+  DRYER((short) 2, "Dryer");
+
+  private static final Map<Short, MachineType> BY_CODE = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(MachineType::getCode, Function.identity()));
+  private static final Map<String, MachineType> BY_LABEL = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(type -> normalize(type.getLabel()), Function.identity()));
+
+  private final short code;
+  private final String label;
+
+  MachineType(short code, String label) {
+    this.code = code;
+    this.label = label;
+  }
+
+  public static MachineType fromCode(short code) {
+    MachineType type = BY_CODE.get(code);
+    if (type == null) {
+      throw new IllegalStateException("Unknown machine type code " + code);
+    }
+    return type;
+  }
+
+  /**
+   * Resolves a label regardless of case and surrounding blanks, the way the migration matched the
+   * free-form values stored before.
+   */
+  public static Optional<MachineType> findByLabel(String label) {
+    return label == null ? Optional.empty() : Optional.ofNullable(BY_LABEL.get(normalize(label)));
+  }
+
+  public static MachineType fromLabel(String label) {
+    return findByLabel(label).orElseThrow(() -> new IllegalArgumentException(MACHINE_TYPE_NOT_SUPPORTED));
+  }
+
+  public static String labelOf(MachineType type) {
+    return type == null ? null : type.getLabel();
+  }
+
+  private static String normalize(String label) {
+    return label.trim().toLowerCase(Locale.ROOT);
+  }
+}
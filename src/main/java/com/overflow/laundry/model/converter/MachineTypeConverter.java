@@ -0,0 +1,19 @@
+package com.overflow.laundry.model.converter;
+
+import com.overflow.laundry.model.MachineType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class MachineTypeConverter implements AttributeConverter<MachineType, Short> {
+
+  @Override
+  public Short convertToDatabaseColumn(MachineType type) {
+    return type == null ? null : type.getCode();
+  }
+
+  @Override
+  public MachineType convertToEntityAttribute(Short code) {
+    return code == null ? null : MachineType.fromCode(code);
+  }
+}
@@ -0,0 +1,15 @@
+package com.overflow.laundry.model.dto;
+
+import com.overflow.laundry.model.MachineType;
+import lombok.Builder;
+
+@Builder
+public record CondominiumMachineResponseDto(Long id,
+                                            String identifier,
+                                            String type,
+                                            Long version) {
+
+  public CondominiumMachineResponseDto(Long id, String identifier, MachineType type, Long version) {
+    this(id, identifier, MachineType.labelOf(type), version);
+  }
+}
@@ -0,0 +1,32 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+import static com.overflow.laundry.constant.ObjectValidatorErrors.PAGINATION_DIRECTION_FORMAT_INVALID;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.PAGINATION_SIZE_INVALID;
+
+@Builder
+public record CursorPaginationRequestDto(
+    String after,
+    Integer pageSize,
+    String sortBy,
+    String direction
+) {
+
+  public CursorPaginationRequestDto(String after, Integer pageSize, String sortBy, String direction) {
+    this.after = after == null || after.isBlank() ? null : after;
+    this.pageSize = pageSize == null ? 10 : pageSize;
+    this.sortBy = sortBy == null ? "id" : sortBy;
+    this.direction = direction == null ? "DESC" : direction.toUpperCase();
+    validate();
+  }
+
+  private void validate() {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException(PAGINATION_SIZE_INVALID);
+    }
+    if (!direction.equals("ASC") && !direction.equals("DESC")) {
+      throw new IllegalArgumentException(PAGINATION_DIRECTION_FORMAT_INVALID);
+    }
+  }
+}
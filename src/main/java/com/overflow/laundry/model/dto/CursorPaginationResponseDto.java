@@ -0,0 +1,15 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+import java.util.Collection;
+
+@Builder
+public record CursorPaginationResponseDto<T>(
+    Collection<T> content,
+    Integer pageSize,
+    String nextCursor,
+    boolean empty,
+    boolean last
+) {
+}
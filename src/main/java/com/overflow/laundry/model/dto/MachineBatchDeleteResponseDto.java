@@ -0,0 +1,8 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+@Builder
+public record MachineBatchDeleteResponseDto(int requestedCount,
+                                            int deletedCount) {
+}
@@ -0,0 +1,10 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+@Builder
+public record MachineBatchItemResponseDto(int index,
+                                          boolean created,
+                                          MachineResponseDto machine,
+                                          String details) {
+}
@@ -0,0 +1,11 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record MachineBatchResponseDto(List<MachineBatchItemResponseDto> items,
+                                      int createdCount,
+                                      int failedCount) {
+}
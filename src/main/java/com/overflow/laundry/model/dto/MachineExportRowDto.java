@@ -0,0 +1,22 @@
+package com.overflow.laundry.model.dto;
+
+import com.overflow.laundry.model.MachineType;
+import lombok.Builder;
+
+@Builder
+public record MachineExportRowDto(Long id,
+                                  String identifier,
+                                  String type,
+                                  Long condominiumId,
+                                  String condominiumName,
+                                  String condominiumAddress,
+                                  String condominiumContactPhone,
+                                  String condominiumEmail) {
+
+  public MachineExportRowDto(Long id, String identifier, MachineType type, Long condominiumId,
+                             String condominiumName, String condominiumAddress, String condominiumContactPhone,
+                             String condominiumEmail) {
+    this(id, identifier, MachineType.labelOf(type), condominiumId, condominiumName, condominiumAddress,
+        condominiumContactPhone, condominiumEmail);
+  }
+}
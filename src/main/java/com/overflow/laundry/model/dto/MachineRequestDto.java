@@ -1,5 +1,6 @@
 package com.overflow.laundry.model.dto;
 
+import com.overflow.laundry.model.validation.SupportedMachineType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
@@ -15,5 +16,7 @@ public record MachineRequestDto(Long id,
                                 @NotNull(message = MACHINE_CONDOMINIUM_ID_NOT_EMPTY_NULL)
                                 Long condominiumId,
                                 @NotBlank(message = MACHINE_TYPE_OF_MACHINE_NOT_EMPTY_NULL)
-                                String type) {
+                                @SupportedMachineType
+                                String type,
+                                Long version) {
 }
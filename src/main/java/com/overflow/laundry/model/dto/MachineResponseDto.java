@@ -1,11 +1,28 @@
 package com.overflow.laundry.model.dto;
 
+import com.overflow.laundry.model.MachineType;
 import lombok.Builder;
 
 @Builder
 public record MachineResponseDto(Long id,
                                  String identifier,
                                  CondominiumResponseDto condominium,
-                                 String type) {
+                                 String type,
+                                 Long version) {
 
+  public MachineResponseDto(Long id, String identifier, CondominiumResponseDto condominium, MachineType type,
+                            Long version) {
+    this(id, identifier, condominium, MachineType.labelOf(type), version);
+  }
+
+  /**
+   * Takes the condominium columns of a left join flat, so a machine without a condominium maps to a null
+   * condominium instead of one with every field null.
+   */
+  public MachineResponseDto(Long id, String identifier, MachineType type, Long version, Long condominiumId,
+                            String condominiumName, String condominiumAddress, String condominiumContactPhone,
+                            String condominiumEmail) {
+    this(id, identifier, condominiumId == null ? null : new CondominiumResponseDto(condominiumId,
+        condominiumName, condominiumAddress, condominiumContactPhone, condominiumEmail), type, version);
+  }
 }
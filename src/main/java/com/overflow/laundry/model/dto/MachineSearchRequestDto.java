@@ -0,0 +1,24 @@
+package com.overflow.laundry.model.dto;
+
+import com.overflow.laundry.model.MachineType;
+import lombok.Builder;
+
+@Builder
+public record MachineSearchRequestDto(
+    MachineType type,
+    Long condominiumId,
+    String identifierPrefix
+) {
+
+  public MachineSearchRequestDto {
+    identifierPrefix = identifierPrefix == null || identifierPrefix.isEmpty() ? null : identifierPrefix;
+  }
+
+  /**
+   * Takes the type as the label sent by clients, resolved once here so an unsupported label is rejected
+   * before the search runs.
+   */
+  public MachineSearchRequestDto(String type, Long condominiumId, String identifierPrefix) {
+    this(type == null || type.isBlank() ? null : MachineType.fromLabel(type), condominiumId, identifierPrefix);
+  }
+}
@@ -0,0 +1,13 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+import java.util.Collection;
+
+@Builder
+public record MultiGetResponseDto<T>(
+    Collection<T> content,
+    Integer requestedCount,
+    Collection<Long> missingIds
+) {
+}
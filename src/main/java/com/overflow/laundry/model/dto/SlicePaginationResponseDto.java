@@ -0,0 +1,16 @@
+package com.overflow.laundry.model.dto;
+
+import lombok.Builder;
+
+import java.util.Collection;
+
+@Builder
+public record SlicePaginationResponseDto<T>(
+    Collection<T> content,
+    Integer pageSize,
+    Integer pageNumber,
+    boolean empty,
+    boolean last,
+    boolean first
+) {
+}
@@ -24,6 +24,7 @@ public class CondominiumMapper {
         condominiumRequestDto.address(),
         condominiumRequestDto.contactPhone(),
         condominiumRequestDto.email(),
+        null,
         null);
   }
 }
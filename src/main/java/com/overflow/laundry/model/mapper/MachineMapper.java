@@ -2,6 +2,7 @@ package com.overflow.laundry.model.mapper;
 
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,15 +24,17 @@ public class MachineMapper {
         .id(machine.getId())
         .identifier(machine.getIdentifier())
         .condominium(condominiumMapper.toDto(machine.getCondominium()))
-        .type(machine.getType())
+        .type(MachineType.labelOf(machine.getType()))
+        .version(machine.getVersion())
         .build();
   }
 
   public Machine toEntity(MachineRequestDto machineRequestDto, Condominium condominium) {
     return new Machine(machineRequestDto.id(),
         machineRequestDto.identifier(),
-        machineRequestDto.type(),
-        condominium);
+        MachineType.fromLabel(machineRequestDto.type()),
+        condominium,
+        machineRequestDto.version());
 
   }
 }
\ No newline at end of file
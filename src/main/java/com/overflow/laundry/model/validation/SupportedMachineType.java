@@ -0,0 +1,30 @@
+package com.overflow.laundry.model.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_TYPE_NOT_SUPPORTED;
+
+/**
+ * Marks a string that must be the label of a {@link com.overflow.laundry.model.MachineType}, matched the way
+ * {@link com.overflow.laundry.model.MachineType#findByLabel(String)} does. Null is valid, so absence is left
+ * to a separate constraint.
+ */
+@Documented
+@Constraint(validatedBy = SupportedMachineTypeValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SupportedMachineType {
+
+  String message() default MACHINE_TYPE_NOT_SUPPORTED;
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,13 @@
+package com.overflow.laundry.model.validation;
+
+import com.overflow.laundry.model.MachineType;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class SupportedMachineTypeValidator implements ConstraintValidator<SupportedMachineType, String> {
+
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    return value == null || MachineType.findByLabel(value).isPresent();
+  }
+}
@@ -1,7 +1,38 @@
 package com.overflow.laundry.repository;
 
 import com.overflow.laundry.model.Condominium;
+import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CondominiumRepository extends JpaRepository<Condominium, Long> {
+
+  String CONDOMINIUM_DTO_SELECT = "SELECT new com.overflow.laundry.model.dto.CondominiumResponseDto(c.id, c.name, "
+      + "c.address, c.contactPhone, c.email) FROM Condominium c";
+
+  Window<Condominium> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+  @Query(CONDOMINIUM_DTO_SELECT + " WHERE c.id = :id")
+  Optional<CondominiumResponseDto> findDtoById(@Param("id") Long id);
+
+  @Query(CONDOMINIUM_DTO_SELECT + " WHERE c.id IN :ids")
+  List<CondominiumResponseDto> findDtosByIds(@Param("ids") Collection<Long> ids);
+
+  @Query(value = CONDOMINIUM_DTO_SELECT, countQuery = "SELECT COUNT(c) FROM Condominium c")
+  Page<CondominiumResponseDto> findAllDtos(Pageable pageable);
+
+  @Query(CONDOMINIUM_DTO_SELECT)
+  Slice<CondominiumResponseDto> findDtoSlice(Pageable pageable);
 }
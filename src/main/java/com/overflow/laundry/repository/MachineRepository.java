@@ -1,7 +1,79 @@
 package com.overflow.laundry.repository;
 
+import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface MachineRepository extends JpaRepository<Machine, Long>, MachineRepositoryCustom {
+
+  /**
+   * Selects machines straight into response records, condominium included, so read endpoints neither
+   * hydrate entities nor keep them in the persistence context. Left joined, like the export, so machines
+   * without a condominium are still listed.
+   */
+  String MACHINE_DTO_SELECT = "SELECT new com.overflow.laundry.model.dto.MachineResponseDto(m.id, m.identifier, "
+      + "m.type, m.version, c.id, c.name, c.address, c.contactPhone, c.email) "
+      + "FROM Machine m LEFT JOIN m.condominium c";
+
+  @Query(MACHINE_DTO_SELECT + " WHERE m.id = :id")
+  Optional<MachineResponseDto> findDtoById(@Param("id") Long id);
+
+  @Query(MACHINE_DTO_SELECT + " WHERE m.id IN :ids")
+  List<MachineResponseDto> findDtosByIds(@Param("ids") Collection<Long> ids);
+
+  @Query(value = MACHINE_DTO_SELECT, countQuery = "SELECT COUNT(m) FROM Machine m")
+  Page<MachineResponseDto> findAllDtos(Pageable pageable);
+
+  @Query(MACHINE_DTO_SELECT)
+  Slice<MachineResponseDto> findDtoSlice(Pageable pageable);
+
+  @EntityGraph(attributePaths = "condominium")
+  Window<Machine> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+  /**
+   * Reads only the machine columns, filtered on the foreign key, so the page is served from the covering
+   * index on (condominium_id, identifier) without joining or loading the condominium.
+   */
+  @Query(value = "SELECT new com.overflow.laundry.model.dto.CondominiumMachineResponseDto("
+      + "m.id, m.identifier, m.type, m.version) FROM Machine m WHERE m.condominium.id = :condominiumId",
+      countQuery = "SELECT COUNT(m) FROM Machine m WHERE m.condominium.id = :condominiumId")
+  Page<CondominiumMachineResponseDto> findMachinesByCondominiumId(@Param("condominiumId") Long condominiumId,
+                                                                  Pageable pageable);
+
+  boolean existsByIdentifierAndCondominiumId(String identifier, Long condominiumId);
+
+  @Modifying
+  @Query("UPDATE Machine m SET m.identifier = :identifier, m.type = :type, m.condominium = :condominium, "
+      + "m.version = m.version + 1 WHERE m.id = :id AND m.version = :version")
+  int updateIfVersionMatches(@Param("id") Long id,
+                             @Param("version") Long version,
+                             @Param("identifier") String identifier,
+                             @Param("type") MachineType type,
+                             @Param("condominium") Condominium condominium);
+
+  @Modifying
+  @Query("DELETE FROM Machine m WHERE m.id = :id")
+  int deleteMachineById(@Param("id") Long id);
+
+  @Modifying
+  @Query("DELETE FROM Machine m WHERE m.id IN :ids")
+  int deleteMachinesByIds(@Param("ids") Collection<Long> ids);
 }
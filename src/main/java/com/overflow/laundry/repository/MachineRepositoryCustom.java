@@ -1,8 +1,24 @@
 package com.overflow.laundry.repository;
 
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.dto.MachineExportRowDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MachineRepositoryCustom {
-  Optional<Machine> findMachineByCondominiumIdAndIdentifier(String identifier, Long condominiumId);
+  Optional<MachineResponseDto> findMachineByCondominiumIdAndIdentifier(String identifier, Long condominiumId);
+
+  List<Machine> findMachinesByCondominiumIdsAndIdentifiers(Collection<Long> condominiumIds,
+                                                           Collection<String> identifiers);
+
+  Stream<MachineExportRowDto> streamAllForExport();
+
+  Page<MachineResponseDto> searchMachines(Specification<Machine> specification, Pageable pageable);
 }
\ No newline at end of file
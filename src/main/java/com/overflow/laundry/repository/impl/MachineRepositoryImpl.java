@@ -1,32 +1,128 @@
 package com.overflow.laundry.repository.impl;
 
+import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.dto.MachineExportRowDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.repository.MachineRepository;
 import com.overflow.laundry.repository.MachineRepositoryCustom;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.overflow.laundry.constant.CacheNames.MACHINE_BY_IDENTIFIER_REGION;
 
 @Repository
 public class MachineRepositoryImpl implements MachineRepositoryCustom {
 
+  private static final int EXPORT_FETCH_SIZE = 1000;
+
   @PersistenceContext
   private EntityManager entityManager;
 
+  /**
+   * Served from the query cache while no statement has touched the machine or condominium tables since
+   * the result was cached; any such write, bulk ones included, invalidates it.
+   */
   @Override
-  public Optional<Machine> findMachineByCondominiumIdAndIdentifier(String identifier, Long condominiumId) {
+  public Optional<MachineResponseDto> findMachineByCondominiumIdAndIdentifier(String identifier,
+                                                                             Long condominiumId) {
     try {
-      TypedQuery<Machine> query = entityManager.createQuery(
-          "SELECT m FROM Machine m WHERE m.identifier = :identifier AND m.condominium.id = :condominiumId",
-          Machine.class);
+      TypedQuery<MachineResponseDto> query = entityManager.createQuery(
+          MachineRepository.MACHINE_DTO_SELECT + " WHERE m.identifier = :identifier AND c.id = :condominiumId",
+          MachineResponseDto.class);
       query.setParameter("identifier", identifier);
       query.setParameter("condominiumId", condominiumId);
+      query.setHint(HibernateHints.HINT_CACHEABLE, true);
+      query.setHint(HibernateHints.HINT_CACHE_REGION, MACHINE_BY_IDENTIFIER_REGION);
       return Optional.of(query.getSingleResult());
     } catch (NoResultException e) {
       return Optional.empty();
     }
   }
+
+  @Override
+  public List<Machine> findMachinesByCondominiumIdsAndIdentifiers(Collection<Long> condominiumIds,
+                                                                  Collection<String> identifiers) {
+    return entityManager.createQuery(
+            "SELECT m FROM Machine m JOIN FETCH m.condominium c "
+                + "WHERE c.id IN :condominiumIds AND m.identifier IN :identifiers",
+            Machine.class)
+        .setParameter("condominiumIds", condominiumIds)
+        .setParameter("identifiers", identifiers)
+        .getResultList();
+  }
+
+  /**
+   * Streams every machine as a flat row instead of an entity, so nothing is kept in the persistence
+   * context and the driver reads the result set forward in chunks of {@value #EXPORT_FETCH_SIZE} rows.
+   * Must be consumed inside a transaction, otherwise the PostgreSQL driver ignores the fetch size.
+   */
+  @Override
+  public Stream<MachineExportRowDto> streamAllForExport() {
+    return entityManager.createQuery(
+            "SELECT new com.overflow.laundry.model.dto.MachineExportRowDto("
+                + "m.id, m.identifier, m.type, c.id, c.name, c.address, c.contactPhone, c.email) "
+                + "FROM Machine m LEFT JOIN m.condominium c ORDER BY m.id",
+            MachineExportRowDto.class)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultStream();
+  }
+
+  /**
+   * Runs the search straight into response records, like the other read queries, with the count
+   * query only issued when the page alone cannot tell the total. The condominium is left joined, as in
+   * {@link MachineRepository#MACHINE_DTO_SELECT}, so machines without one are found too.
+   */
+  @Override
+  public Page<MachineResponseDto> searchMachines(Specification<Machine> specification, Pageable pageable) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+    CriteriaQuery<MachineResponseDto> query = criteriaBuilder.createQuery(MachineResponseDto.class);
+    Root<Machine> machine = query.from(Machine.class);
+    Join<Machine, Condominium> condominium = machine.join("condominium", JoinType.LEFT);
+    query.select(criteriaBuilder.construct(MachineResponseDto.class,
+            machine.get("id"),
+            machine.get("identifier"),
+            machine.get("type"),
+            machine.get("version"),
+            condominium.get("id"),
+            condominium.get("name"),
+            condominium.get("address"),
+            condominium.get("contactPhone"),
+            condominium.get("email")))
+        .where(specification.toPredicate(machine, query, criteriaBuilder))
+        .orderBy(QueryUtils.toOrders(pageable.getSort(), machine, criteriaBuilder));
+    List<MachineResponseDto> content = entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize())
+        .getResultList();
+
+    CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+    Root<Machine> countedMachine = countQuery.from(Machine.class);
+    countedMachine.join("condominium", JoinType.LEFT);
+    countQuery.select(criteriaBuilder.count(countedMachine))
+        .where(specification.toPredicate(countedMachine, countQuery, criteriaBuilder));
+    return PageableExecutionUtils.getPage(content, pageable,
+        () -> entityManager.createQuery(countQuery).getSingleResult());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.overflow.laundry.repository.specification;
+
+import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicates of the machine search. Each one is backed by an index: type by ix_machine_type_id, or
+ * ix_machine_type_identifier when sorted by identifier, condominium by
+ * ix_machine_condominium_identifier_covering and the identifier prefix by ix_machine_identifier
+ * (ix_machine_identifier_pattern on PostgreSQL).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MachineSpecifications {
+
+  private static final char LIKE_ESCAPE = '\\';
+
+  public static Specification<Machine> matching(MachineSearchRequestDto search) {
+    List<Specification<Machine>> specifications = new ArrayList<>();
+    if (search.type() != null) {
+      specifications.add(hasType(search.type()));
+    }
+    if (search.condominiumId() != null) {
+      specifications.add(belongsToCondominium(search.condominiumId()));
+    }
+    if (search.identifierPrefix() != null) {
+      specifications.add(identifierStartsWith(search.identifierPrefix()));
+    }
+    return Specification.allOf(specifications);
+  }
+
+  public static Specification<Machine> hasType(MachineType type) {
+    return (machine, query, criteriaBuilder) -> criteriaBuilder.equal(machine.get("type"), type);
+  }
+
+  public static Specification<Machine> belongsToCondominium(Long condominiumId) {
+    return (machine, query, criteriaBuilder) ->
+        criteriaBuilder.equal(machine.get("condominium").get("id"), condominiumId);
+  }
+
+  /**
+   * Matches identifiers starting with the given text. LIKE wildcards in the prefix are escaped so the
+   * pattern stays a pure prefix, which is the only form an index range scan can serve.
+   */
+  public static Specification<Machine> identifierStartsWith(String prefix) {
+    String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    return (machine, query, criteriaBuilder) ->
+        criteriaBuilder.like(machine.get("identifier"), pattern, LIKE_ESCAPE);
+  }
+}
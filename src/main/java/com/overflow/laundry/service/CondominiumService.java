@@ -2,13 +2,26 @@ package com.overflow.laundry.service;
 
 import com.overflow.laundry.model.dto.CondominiumRequestDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
+
+import java.util.Set;
 
 public interface CondominiumService {
   CondominiumResponseDto createCondominium(CondominiumRequestDto condominiumRequestDto);
 
   CondominiumResponseDto getCondominiumById(Long id);
 
+  MultiGetResponseDto<CondominiumResponseDto> getCondominiumsByIds(Set<Long> ids);
+
   PaginationResponseDto<CondominiumResponseDto> getAllCondominiums(PaginationRequestDto paginationRequestDto);
+
+  SlicePaginationResponseDto<CondominiumResponseDto> getCondominiumsSlice(PaginationRequestDto paginationRequestDto);
+
+  CursorPaginationResponseDto<CondominiumResponseDto> getCondominiumsByCursor(
+      CursorPaginationRequestDto cursorPaginationRequestDto);
 }
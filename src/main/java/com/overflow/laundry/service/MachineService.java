@@ -1,20 +1,52 @@
 package com.overflow.laundry.service;
 
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
 
 public interface MachineService {
   MachineResponseDto createMachine(MachineRequestDto machineRequestDto);
 
+  MachineBatchResponseDto createMachines(List<MachineRequestDto> machineRequestDtos);
+
   MachineResponseDto getMachineById(Long id);
 
+  MultiGetResponseDto<MachineResponseDto> getMachinesByIds(Set<Long> ids);
+
   MachineResponseDto updateMachine(MachineRequestDto machineRequestDto);
 
   void deleteMachine(Long id);
 
+  MachineBatchDeleteResponseDto deleteMachines(Set<Long> ids);
+
   PaginationResponseDto<MachineResponseDto> getAllMachines(PaginationRequestDto paginationRequestDto);
 
+  SlicePaginationResponseDto<MachineResponseDto> getMachinesSlice(PaginationRequestDto paginationRequestDto);
+
+  PaginationResponseDto<MachineResponseDto> searchMachines(MachineSearchRequestDto machineSearchRequestDto,
+                                                           PaginationRequestDto paginationRequestDto);
+
+  PaginationResponseDto<CondominiumMachineResponseDto> getMachinesByCondominium(
+      Long condominiumId, PaginationRequestDto paginationRequestDto);
+
+  CursorPaginationResponseDto<MachineResponseDto> getMachinesByCursor(
+      CursorPaginationRequestDto cursorPaginationRequestDto);
+
+  void exportMachines(OutputStream outputStream) throws IOException;
+
   MachineResponseDto getMachineByCondominiumAndIdentifier(Long condominiumId, String identifier);
 }
@@ -1,24 +1,41 @@
 package com.overflow.laundry.service.impl;
 
+import com.overflow.laundry.config.Coalesced;
 import com.overflow.laundry.exception.CondominiumNotFoundException;
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.dto.CondominiumRequestDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.model.mapper.CondominiumMapper;
 import com.overflow.laundry.repository.CondominiumRepository;
 import com.overflow.laundry.service.CondominiumService;
+import com.overflow.laundry.util.MultiGetUtils;
 import com.overflow.laundry.util.PaginationUtils;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
+import static com.overflow.laundry.constant.CacheNames.CONDOMINIUMS;
 import static com.overflow.laundry.constant.MessageResponseEnum.CONDOMINIUM_NOT_FOUND;
+import static com.overflow.laundry.constant.MetricNames.SERVICE_INVOCATIONS;
 
 @Service
+@Timed(SERVICE_INVOCATIONS)
 public class CondominiumServiceImpl implements CondominiumService {
 
   private final CondominiumRepository condominiumRepository;
@@ -39,18 +56,48 @@ public class CondominiumServiceImpl implements CondominiumService {
   }
 
   @Override
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = CONDOMINIUMS, key = "#id")
+  @Coalesced
   public CondominiumResponseDto getCondominiumById(Long id) {
-    Optional<Condominium> condominiumFound = condominiumRepository.findById(id);
-    if (condominiumFound.isEmpty()) {
-      throw new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label);
-    }
-    return condominiumMapper.toDto(condominiumFound.get());
+    return condominiumRepository.findDtoById(id)
+        .orElseThrow(() -> new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label));
   }
 
   @Override
+  @Transactional(readOnly = true)
+  @Coalesced
+  public MultiGetResponseDto<CondominiumResponseDto> getCondominiumsByIds(Set<Long> ids) {
+    return MultiGetUtils.findAllByIds(ids, condominiumRepository::findDtosByIds, CondominiumResponseDto::id);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public PaginationResponseDto<CondominiumResponseDto> getAllCondominiums(PaginationRequestDto paginationRequestDto) {
-    Pageable pageable = PaginationUtils.toPageable(paginationRequestDto);
-    Page<Condominium> allCondominiums = condominiumRepository.findAll(pageable);
-    return PaginationUtils.toPaginationResponse(allCondominiums, condominiumMapper::toDto);
+    Pageable pageable = PaginationUtils.toPageable(paginationRequestDto, Condominium.class);
+    Page<CondominiumResponseDto> allCondominiums = condominiumRepository.findAllDtos(pageable);
+    return PaginationUtils.toPaginationResponse(allCondominiums, Function.identity());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public SlicePaginationResponseDto<CondominiumResponseDto> getCondominiumsSlice(
+      PaginationRequestDto paginationRequestDto) {
+    Pageable pageable = PaginationUtils.toPageable(paginationRequestDto, Condominium.class);
+    Slice<CondominiumResponseDto> condominiumSlice = condominiumRepository.findDtoSlice(pageable);
+    return PaginationUtils.toSlicePaginationResponse(condominiumSlice, Function.identity());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPaginationResponseDto<CondominiumResponseDto> getCondominiumsByCursor(
+      CursorPaginationRequestDto cursorPaginationRequestDto) {
+    Sort sort = PaginationUtils.toSort(cursorPaginationRequestDto);
+    ScrollPosition position = PaginationUtils.toScrollPosition(cursorPaginationRequestDto.after(), sort,
+        Condominium.class);
+    Window<Condominium> condominiumWindow = condominiumRepository.findAllBy(position, sort,
+        PaginationUtils.toLimit(cursorPaginationRequestDto));
+    return PaginationUtils.toCursorPaginationResponse(condominiumWindow, cursorPaginationRequestDto.pageSize(),
+        condominiumMapper::toDto);
   }
 }
@@ -1,46 +1,106 @@
 package com.overflow.laundry.service.impl;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.overflow.laundry.config.Coalesced;
 import com.overflow.laundry.exception.CondominiumNotFoundException;
 import com.overflow.laundry.exception.MachineIdentifierAlreadyInUseException;
 import com.overflow.laundry.exception.MachineNotFoundException;
+import com.overflow.laundry.exception.MachineVersionConflictException;
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchItemResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
+import com.overflow.laundry.model.dto.MachineExportRowDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.model.mapper.MachineMapper;
 import com.overflow.laundry.repository.CondominiumRepository;
 import com.overflow.laundry.repository.MachineRepository;
+import com.overflow.laundry.repository.specification.MachineSpecifications;
 import com.overflow.laundry.service.MachineService;
+import com.overflow.laundry.util.MultiGetUtils;
 import com.overflow.laundry.util.PaginationUtils;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.overflow.laundry.constant.CacheNames.MACHINES;
+import static com.overflow.laundry.constant.CacheNames.MACHINES_BY_IDENTIFIER;
 import static com.overflow.laundry.constant.MessageResponseEnum.CONDOMINIUM_NOT_FOUND;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_IDENTIFIER_ALREADY_IN_USE;
 import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_NOT_FOUND;
+import static com.overflow.laundry.constant.MessageResponseEnum.MACHINE_VERSION_CONFLICT;
+import static com.overflow.laundry.constant.MetricNames.SERVICE_INVOCATIONS;
 import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_ID_IS_PROVIDED_ON_CREATION;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_SEARCH_SORT_INVALID;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_VERSION_IS_PROVIDED_ON_CREATION;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_VERSION_NOT_PROVIDED_ON_UPDATE;
 
 
 @Service
+@Timed(SERVICE_INVOCATIONS)
 public class MachineServiceImpl implements MachineService {
 
+  private static final JsonFactory EXPORT_JSON_FACTORY = JsonFactory.builder()
+      .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+      .build();
+  // Only indexed columns, so no filter combination ends up sorting a sequential scan
+  private static final Set<String> SEARCH_SORT_FIELDS = Set.of("id", "identifier");
+
   private final CondominiumRepository condominiumRepository;
   private final MachineRepository machineRepository;
   private final MachineMapper machineMapper;
+  private final CacheManager cacheManager;
 
   @Autowired
   public MachineServiceImpl(MachineRepository machineRepository,
                             MachineMapper machineMapper,
-                            CondominiumRepository condominiumRepository) {
+                            CondominiumRepository condominiumRepository,
+                            CacheManager cacheManager) {
     this.machineRepository = machineRepository;
     this.machineMapper = machineMapper;
     this.condominiumRepository = condominiumRepository;
+    this.cacheManager = cacheManager;
   }
 
   @Override
@@ -49,60 +109,276 @@ public class MachineServiceImpl implements MachineService {
     if (machineRequestDto.id() != null) {
       throw new IllegalArgumentException(MACHINE_ID_IS_PROVIDED_ON_CREATION);
     }
+    if (machineRequestDto.version() != null) {
+      throw new IllegalArgumentException(MACHINE_VERSION_IS_PROVIDED_ON_CREATION);
+    }
 
     Condominium condominiumEntity = condominiumRepository.findById(machineRequestDto.condominiumId())
         .orElseThrow(() -> new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label));
-    machineRepository.findMachineByCondominiumIdAndIdentifier(machineRequestDto.identifier(),
-            machineRequestDto.condominiumId())
-        .ifPresent(machine -> {
-          throw new MachineIdentifierAlreadyInUseException(MACHINE_IDENTIFIER_ALREADY_IN_USE.label);
-        });
+    if (machineRepository.existsByIdentifierAndCondominiumId(machineRequestDto.identifier(),
+        machineRequestDto.condominiumId())) {
+      throw new MachineIdentifierAlreadyInUseException(MACHINE_IDENTIFIER_ALREADY_IN_USE.label);
+    }
 
     Machine machine = machineMapper.toEntity(machineRequestDto, condominiumEntity);
     return machineMapper.toDto(machineRepository.save(machine));
   }
 
   @Override
-  public MachineResponseDto getMachineById(Long id) {
-    Optional<Machine> machine = machineRepository.findById(id);
-    if (machine.isEmpty()) {
-      throw new MachineNotFoundException(MACHINE_NOT_FOUND.label);
+  @Transactional
+  public MachineBatchResponseDto createMachines(List<MachineRequestDto> machineRequestDtos) {
+    Set<Long> condominiumIds = machineRequestDtos.stream()
+        .map(MachineRequestDto::condominiumId)
+        .collect(Collectors.toSet());
+    Set<String> identifiers = machineRequestDtos.stream()
+        .map(MachineRequestDto::identifier)
+        .collect(Collectors.toSet());
+
+    Map<Long, Condominium> condominiums = condominiumRepository.findAllById(condominiumIds).stream()
+        .collect(Collectors.toMap(Condominium::getId, Function.identity()));
+    Set<MachineKey> usedKeys = machineRepository.findMachinesByCondominiumIdsAndIdentifiers(condominiumIds, identifiers)
+        .stream()
+        .map(machine -> new MachineKey(machine.getCondominium().getId(), machine.getIdentifier()))
+        .collect(Collectors.toCollection(HashSet::new));
+
+    MachineBatchItemResponseDto[] items = new MachineBatchItemResponseDto[machineRequestDtos.size()];
+    List<Integer> indexesToCreate = new ArrayList<>();
+    List<Machine> machinesToCreate = new ArrayList<>();
+    for (int index = 0; index < machineRequestDtos.size(); index++) {
+      MachineRequestDto machineRequestDto = machineRequestDtos.get(index);
+      Condominium condominium = condominiums.get(machineRequestDto.condominiumId());
+      String failure = null;
+      if (machineRequestDto.id() != null) {
+        failure = MACHINE_ID_IS_PROVIDED_ON_CREATION;
+      } else if (machineRequestDto.version() != null) {
+        failure = MACHINE_VERSION_IS_PROVIDED_ON_CREATION;
+      } else if (condominium == null) {
+        failure = CONDOMINIUM_NOT_FOUND.label;
+      } else if (!usedKeys.add(new MachineKey(machineRequestDto.condominiumId(), machineRequestDto.identifier()))) {
+        failure = MACHINE_IDENTIFIER_ALREADY_IN_USE.label;
+      }
+
+      if (failure != null) {
+        items[index] = MachineBatchItemResponseDto.builder().index(index).created(false).details(failure).build();
+      } else {
+        indexesToCreate.add(index);
+        machinesToCreate.add(machineMapper.toEntity(machineRequestDto, condominium));
+      }
     }
-    return machineMapper.toDto(machine.get());
+
+    List<Machine> createdMachines = machineRepository.saveAll(machinesToCreate);
+    for (int i = 0; i < createdMachines.size(); i++) {
+      int index = indexesToCreate.get(i);
+      items[index] = MachineBatchItemResponseDto.builder()
+          .index(index)
+          .created(true)
+          .machine(machineMapper.toDto(createdMachines.get(i)))
+          .build();
+    }
+
+    return MachineBatchResponseDto.builder()
+        .items(List.of(items))
+        .createdCount(createdMachines.size())
+        .failedCount(items.length - createdMachines.size())
+        .build();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = MACHINES, key = "#id")
+  @Coalesced
+  public MachineResponseDto getMachineById(Long id) {
+    return machineRepository.findDtoById(id)
+        .orElseThrow(() -> new MachineNotFoundException(MACHINE_NOT_FOUND.label));
   }
 
   @Override
+  @Transactional(readOnly = true)
+  @Coalesced
+  public MultiGetResponseDto<MachineResponseDto> getMachinesByIds(Set<Long> ids) {
+    return MultiGetUtils.findAllByIds(ids, machineRepository::findDtosByIds, MachineResponseDto::id);
+  }
+
+  @Override
+  @Transactional
+  @CachePut(cacheNames = MACHINES, key = "#result.id")
   public MachineResponseDto updateMachine(MachineRequestDto machineRequestDto) {
-    if (!machineRepository.existsById(machineRequestDto.id())) {
-      throw new MachineNotFoundException(MACHINE_NOT_FOUND.label);
+    if (machineRequestDto.version() == null) {
+      throw new IllegalArgumentException(MACHINE_VERSION_NOT_PROVIDED_ON_UPDATE);
     }
-    Condominium condominiumEntity = condominiumRepository.findById(machineRequestDto.condominiumId())
-        .orElseThrow(() -> new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label));
-    Machine machine = machineMapper.toEntity(machineRequestDto, condominiumEntity);
-    return machineMapper.toDto(machineRepository.save(machine));
+    Condominium condominiumReference = condominiumRepository.getReferenceById(machineRequestDto.condominiumId());
+    int updatedRows;
+    try {
+      updatedRows = machineRepository.updateIfVersionMatches(machineRequestDto.id(), machineRequestDto.version(),
+          machineRequestDto.identifier(), MachineType.fromLabel(machineRequestDto.type()), condominiumReference);
+    } catch (DataIntegrityViolationException ex) {
+      if (isConstraintViolation(ex, Machine.CONDOMINIUM_IDENTIFIER_UNIQUE_CONSTRAINT)) {
+        throw new MachineIdentifierAlreadyInUseException(MACHINE_IDENTIFIER_ALREADY_IN_USE.label);
+      }
+      if (isConstraintViolation(ex, Machine.CONDOMINIUM_FOREIGN_KEY)) {
+        throw new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label);
+      }
+      throw ex;
+    }
+    if (updatedRows == 0) {
+      if (!machineRepository.existsById(machineRequestDto.id())) {
+        throw new MachineNotFoundException(MACHINE_NOT_FOUND.label);
+      }
+      throw new MachineVersionConflictException(MACHINE_VERSION_CONFLICT.label);
+    }
+
+    Machine machine = machineMapper.toEntity(machineRequestDto, condominiumReference);
+    machine.setVersion(machineRequestDto.version() + 1);
+    return machineMapper.toDto(machine);
   }
 
   @Override
+  @Transactional
+  @CacheEvict(cacheNames = MACHINES, key = "#id")
   public void deleteMachine(Long id) {
-    if (!machineRepository.existsById(id)) {
+    if (machineRepository.deleteMachineById(id) == 0) {
       throw new MachineNotFoundException(MACHINE_NOT_FOUND.label);
     }
-    machineRepository.deleteById(id);
   }
 
   @Override
+  @Transactional
+  public MachineBatchDeleteResponseDto deleteMachines(Set<Long> ids) {
+    int deletedCount = machineRepository.deleteMachinesByIds(ids);
+    Cache machinesCache = cacheManager.getCache(MACHINES);
+    if (machinesCache != null) {
+      ids.forEach(machinesCache::evict);
+    }
+    return MachineBatchDeleteResponseDto.builder()
+        .requestedCount(ids.size())
+        .deletedCount(deletedCount)
+        .build();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public PaginationResponseDto<MachineResponseDto> getAllMachines(PaginationRequestDto paginationRequestDto) {
+    Pageable pageable = PaginationUtils.toPageable(paginationRequestDto, Machine.class);
+    Page<MachineResponseDto> machinePage = machineRepository.findAllDtos(pageable);
+    return PaginationUtils.toPaginationResponse(machinePage, Function.identity());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public SlicePaginationResponseDto<MachineResponseDto> getMachinesSlice(PaginationRequestDto paginationRequestDto) {
+    Pageable pageable = PaginationUtils.toPageable(paginationRequestDto, Machine.class);
+    Slice<MachineResponseDto> machineSlice = machineRepository.findDtoSlice(pageable);
+    return PaginationUtils.toSlicePaginationResponse(machineSlice, Function.identity());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PaginationResponseDto<MachineResponseDto> searchMachines(MachineSearchRequestDto machineSearchRequestDto,
+                                                                  PaginationRequestDto paginationRequestDto) {
+    if (!SEARCH_SORT_FIELDS.contains(paginationRequestDto.sortBy())) {
+      throw new IllegalArgumentException(MACHINE_SEARCH_SORT_INVALID);
+    }
     Pageable pageable = PaginationUtils.toPageable(paginationRequestDto);
-    Page<Machine> machinePage = machineRepository.findAll(pageable);
-    return PaginationUtils.toPaginationResponse(machinePage, machineMapper::toDto);
+    Page<MachineResponseDto> machinePage = machineRepository.searchMachines(
+        MachineSpecifications.matching(machineSearchRequestDto), pageable);
+    return PaginationUtils.toPaginationResponse(machinePage, Function.identity());
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public PaginationResponseDto<CondominiumMachineResponseDto> getMachinesByCondominium(
+      Long condominiumId, PaginationRequestDto paginationRequestDto) {
+    Pageable pageable = PaginationUtils.toPageable(paginationRequestDto);
+    Page<CondominiumMachineResponseDto> machinePage = machineRepository.findMachinesByCondominiumId(condominiumId,
+        pageable);
+    // Only an empty result can hide a missing condominium, so the extra lookup is skipped otherwise
+    if (machinePage.getTotalElements() == 0 && !condominiumRepository.existsById(condominiumId)) {
+      throw new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label);
+    }
+    return PaginationUtils.toPaginationResponse(machinePage, Function.identity());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPaginationResponseDto<MachineResponseDto> getMachinesByCursor(
+      CursorPaginationRequestDto cursorPaginationRequestDto) {
+    Sort sort = PaginationUtils.toSort(cursorPaginationRequestDto);
+    ScrollPosition position = PaginationUtils.toScrollPosition(cursorPaginationRequestDto.after(), sort,
+        Machine.class);
+    Window<Machine> machineWindow = machineRepository.findAllBy(position, sort,
+        PaginationUtils.toLimit(cursorPaginationRequestDto));
+    return PaginationUtils.toCursorPaginationResponse(machineWindow, cursorPaginationRequestDto.pageSize(),
+        machineMapper::toDto);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportMachines(OutputStream outputStream) throws IOException {
+    try (Stream<MachineExportRowDto> rows = machineRepository.streamAllForExport();
+         JsonGenerator generator = EXPORT_JSON_FACTORY.createGenerator(outputStream)) {
+      generator.setRootValueSeparator(null);
+      Iterator<MachineExportRowDto> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        writeExportRow(generator, iterator.next());
+      }
+    }
+  }
+
+  /**
+   * The identifier cache only maps (condominium, identifier) to an id, and the machine itself is read from the
+   * cache by id that updates and deletes maintain. A mapping left behind by a renamed or deleted machine no
+   * longer matches that entry and falls through to the query, so writes never search the identifier cache.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  @Coalesced
   public MachineResponseDto getMachineByCondominiumAndIdentifier(Long condominiumId, String identifier) {
+    Cache machinesCache = cacheManager.getCache(MACHINES);
+    Cache machineIdsCache = cacheManager.getCache(MACHINES_BY_IDENTIFIER);
+    SimpleKey identifierKey = new SimpleKey(condominiumId, identifier);
+    Long cachedId = machineIdsCache == null ? null : machineIdsCache.get(identifierKey, Long.class);
+    MachineResponseDto cachedMachine = cachedId == null || machinesCache == null ? null
+        : machinesCache.get(cachedId, MachineResponseDto.class);
+    if (cachedMachine != null && identifier.equals(cachedMachine.identifier()) && cachedMachine.condominium() != null
+        && condominiumId.equals(cachedMachine.condominium().id())) {
+      return cachedMachine;
+    }
+
+    MachineResponseDto machine = machineRepository.findMachineByCondominiumIdAndIdentifier(identifier, condominiumId)
+        .orElseThrow(() -> new MachineNotFoundException(MACHINE_NOT_FOUND.label));
+    if (machinesCache != null && machineIdsCache != null) {
+      machinesCache.put(machine.id(), machine);
+      machineIdsCache.put(identifierKey, machine.id());
+    }
+    return machine;
+  }
+
+  private static void writeExportRow(JsonGenerator generator, MachineExportRowDto row) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("id", row.id());
+    generator.writeStringField("identifier", row.identifier());
+    if (row.condominiumId() == null) {
+      generator.writeNullField("condominium");
+    } else {
+      generator.writeObjectFieldStart("condominium");
+      generator.writeNumberField("id", row.condominiumId());
+      generator.writeStringField("name", row.condominiumName());
+      generator.writeStringField("address", row.condominiumAddress());
+      generator.writeStringField("contactPhone", row.condominiumContactPhone());
+      generator.writeStringField("email", row.condominiumEmail());
+      generator.writeEndObject();
+    }
+    generator.writeStringField("type", row.type());
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private static boolean isConstraintViolation(DataIntegrityViolationException ex, String constraintName) {
+    return ex.getCause() instanceof ConstraintViolationException violation
+        && violation.getConstraintName() != null
+        && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+  }
 
-    Optional<Machine> machine = Optional.of(machineRepository.findMachineByCondominiumIdAndIdentifier(
-        identifier, condominiumId)
-        .orElseThrow(() -> new MachineNotFoundException(MACHINE_NOT_FOUND.label)));
-    return machineMapper.toDto(machine.get());
+  private record MachineKey(Long condominiumId, String identifier) {
   }
 }
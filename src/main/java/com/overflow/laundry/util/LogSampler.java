@@ -0,0 +1,54 @@
+package com.overflow.laundry.util;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets through at most one log line per key and interval. Callers ask before logging; the first
+ * call of each interval is granted along with the number of calls dropped since the previous one,
+ * so the line can tell how many similar events it stands for.
+ */
+public class LogSampler {
+
+  private final long intervalNanos;
+  private final LongSupplier nanoTime;
+  private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+  public LogSampler(Duration interval) {
+    this(interval, System::nanoTime);
+  }
+
+  LogSampler(Duration interval, LongSupplier nanoTime) {
+    this.intervalNanos = interval.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Returns the number of calls suppressed for the key since the last granted one when this call
+   * may log, or an empty value when it must not.
+   */
+  public OptionalLong sample(String key) {
+    long now = nanoTime.getAsLong();
+    Window window = windows.computeIfAbsent(key, k -> new Window(now - intervalNanos));
+    long last = window.lastLogged.get();
+    if (now - last >= intervalNanos && window.lastLogged.compareAndSet(last, now)) {
+      return OptionalLong.of(window.suppressed.getAndSet(0));
+    }
+    window.suppressed.incrementAndGet();
+    return OptionalLong.empty();
+  }
+
+  private static final class Window {
+
+    private final AtomicLong lastLogged;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    private Window(long lastLogged) {
+      this.lastLogged = new AtomicLong(lastLogged);
+    }
+  }
+}
@@ -9,17 +9,24 @@ import org.slf4j.LoggerFactory;
 public class LogUtils {
 
   private static final String LOG_PREFIX = "[LAUNDRY-APP] ";
+  private static final String INFO_PREFIX = LOG_PREFIX + "INFO";
+  private static final String WARN_PREFIX = LOG_PREFIX + "WARN";
+  private static final String ERROR_PREFIX = LOG_PREFIX + "ERROR";
   public static final Logger log = LoggerFactory.getLogger(LogUtils.class);
 
   public static void logInfo(String message) {
-    log.info("{} {}", LOG_PREFIX + "INFO", message);
+    log.info("{} {}", INFO_PREFIX, message);
   }
 
   public static void logError(String message, Exception ex) {
-    log.error("{} {}", LOG_PREFIX + "ERROR", message, ex);
+    log.error("{} {}", ERROR_PREFIX, message, ex);
+  }
+
+  public static void logWarn(String message) {
+    log.warn("{} {}", WARN_PREFIX, message);
   }
 
   public static void logWarn(String message, Exception ex) {
-    log.warn("{} {}", LOG_PREFIX + "WARN", message, ex);
+    log.warn("{} {}", WARN_PREFIX, message, ex);
   }
 }
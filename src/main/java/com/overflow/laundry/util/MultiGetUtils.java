@@ -0,0 +1,54 @@
+package com.overflow.laundry.util;
+
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MultiGetUtils {
+
+  /**
+   * Ids bound to a single IN query. Larger requests are split so the statement never carries more
+   * parameters than this, which together with in_clause_parameter_padding keeps the number of distinct
+   * statements, and so the plans the database caches for them, small.
+   */
+  public static final int ID_CHUNK_SIZE = 100;
+
+  /**
+   * Loads the requested ids with one IN query per chunk and returns what was found in the order the ids
+   * were requested, listing the ids that matched nothing instead of failing on them.
+   */
+  public static <T> MultiGetResponseDto<T> findAllByIds(Collection<Long> ids,
+                                                        Function<Collection<Long>, List<T>> loader,
+                                                        Function<T, Long> idExtractor) {
+    List<Long> requestedIds = List.copyOf(ids);
+    Map<Long, T> found = new HashMap<>(requestedIds.size());
+    for (int from = 0; from < requestedIds.size(); from += ID_CHUNK_SIZE) {
+      List<Long> chunk = requestedIds.subList(from, Math.min(from + ID_CHUNK_SIZE, requestedIds.size()));
+      loader.apply(chunk).forEach(item -> found.put(idExtractor.apply(item), item));
+    }
+
+    List<T> content = new ArrayList<>(found.size());
+    List<Long> missingIds = new ArrayList<>();
+    for (Long id : requestedIds) {
+      T item = found.get(id);
+      if (item == null) {
+        missingIds.add(id);
+      } else {
+        content.add(item);
+      }
+    }
+    return MultiGetResponseDto.<T>builder()
+        .content(content)
+        .requestedCount(requestedIds.size())
+        .missingIds(missingIds)
+        .build();
+  }
+}
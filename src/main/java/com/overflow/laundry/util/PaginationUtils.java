@@ -1,21 +1,49 @@
 package com.overflow.laundry.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.overflow.laundry.constant.ObjectValidatorErrors.PAGINATION_CURSOR_INVALID;
 
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PaginationUtils {
 
+  private static final String KEYSET_TIE_BREAKER = "id";
+  private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
+  private static final TypeReference<LinkedHashMap<String, String>> CURSOR_TYPE = new TypeReference<>() {
+  };
+
   public static Pageable toPageable(PaginationRequestDto paginationRequestDto) {
     int pageNumber = paginationRequestDto.pageNumber() - 1; // Adjusting page number to be 1-based
     return PageRequest.of(pageNumber,
@@ -24,6 +52,25 @@ public class PaginationUtils {
         paginationRequestDto.sortBy());
   }
 
+  /**
+   * Same as {@link #toPageable(PaginationRequestDto)} for queries that select into records. Their sort is
+   * appended to the JPQL as is, so the property is resolved against the entity first to reject unknown
+   * names the way derived queries do.
+   */
+  public static Pageable toPageable(PaginationRequestDto paginationRequestDto, Class<?> domainType) {
+    PropertyPath.from(paginationRequestDto.sortBy(), domainType);
+    return toPageable(paginationRequestDto);
+  }
+
+  public static Sort toSort(CursorPaginationRequestDto cursorPaginationRequestDto) {
+    return Sort.by(Sort.Direction.valueOf(cursorPaginationRequestDto.direction()),
+        cursorPaginationRequestDto.sortBy());
+  }
+
+  public static Limit toLimit(CursorPaginationRequestDto cursorPaginationRequestDto) {
+    return Limit.of(cursorPaginationRequestDto.pageSize());
+  }
+
   public static <T, U> PaginationResponseDto<U> toPaginationResponse(Page<T> page, Function<T, U> mapper) {
     List<U> content = page.stream().map(mapper).toList();
     return PaginationResponseDto.<U>builder()
@@ -37,4 +84,86 @@ public class PaginationUtils {
         .first(page.isFirst())
         .build();
   }
+
+  /**
+   * Builds the page of a request that opted out of totals. The slice was read with one extra row to
+   * know whether a next page exists, so no count query backs it.
+   */
+  public static <T, U> SlicePaginationResponseDto<U> toSlicePaginationResponse(Slice<T> slice,
+                                                                                Function<T, U> mapper) {
+    List<U> content = slice.stream().map(mapper).toList();
+    return SlicePaginationResponseDto.<U>builder()
+        .content(content)
+        .pageSize(slice.getSize())
+        .pageNumber(slice.getNumber() + 1) // Adjusting page number to be 1-based
+        .empty(slice.isEmpty())
+        .last(!slice.hasNext())
+        .first(slice.isFirst())
+        .build();
+  }
+
+  public static <T, U> CursorPaginationResponseDto<U> toCursorPaginationResponse(
+      Window<T> window, Integer pageSize, Function<T, U> mapper) {
+    List<U> content = window.stream().map(mapper).toList();
+    String nextCursor = window.hasNext() && !window.isEmpty()
+        ? toCursor((KeysetScrollPosition) window.positionAt(window.size() - 1))
+        : null;
+    return CursorPaginationResponseDto.<U>builder()
+        .content(content)
+        .pageSize(pageSize)
+        .nextCursor(nextCursor)
+        .empty(window.isEmpty())
+        .last(!window.hasNext())
+        .build();
+  }
+
+  /**
+   * Resolves the opaque cursor sent by the client back into a keyset position. The cursor must hold
+   * exactly the sorted properties and the id, which Spring Data appends to keyset queries as a
+   * tie-breaker. Values are converted to the type of the matching entity property so they can be bound
+   * against its column.
+   */
+  public static KeysetScrollPosition toScrollPosition(String cursor, Sort sort, Class<?> domainType) {
+    if (cursor == null) {
+      return ScrollPosition.keyset();
+    }
+    Map<String, String> keys = decodeCursor(cursor);
+    Set<String> keyProperties = sort.stream().map(Sort.Order::getProperty)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    keyProperties.add(KEYSET_TIE_BREAKER);
+    if (!keys.keySet().equals(keyProperties)) {
+      throw new IllegalArgumentException(PAGINATION_CURSOR_INVALID);
+    }
+
+    Map<String, Object> typedKeys = new LinkedHashMap<>();
+    keyProperties.forEach(property -> {
+      Class<?> propertyType = PropertyPath.from(property, domainType).getLeafProperty().getType();
+      try {
+        typedKeys.put(property,
+            DefaultConversionService.getSharedInstance().convert(keys.get(property), propertyType));
+      } catch (ConversionException ex) {
+        throw new IllegalArgumentException(PAGINATION_CURSOR_INVALID, ex);
+      }
+    });
+    return ScrollPosition.forward(typedKeys);
+  }
+
+  public static String toCursor(KeysetScrollPosition position) {
+    Map<String, String> keys = new LinkedHashMap<>();
+    position.getKeys().forEach((property, value) -> keys.put(property, value == null ? null : value.toString()));
+    try {
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(CURSOR_MAPPER.writeValueAsBytes(keys));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static Map<String, String> decodeCursor(String cursor) {
+    try {
+      String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return CURSOR_MAPPER.readValue(json, CURSOR_TYPE);
+    } catch (IllegalArgumentException | JsonProcessingException ex) {
+      throw new IllegalArgumentException(PAGINATION_CURSOR_INVALID, ex);
+    }
+  }
 }
@@ -0,0 +1,21 @@
+CREATE SEQUENCE IF NOT EXISTS condominium_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS machine_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS condominium (
+    id            BIGINT NOT NULL,
+    address       VARCHAR(255),
+    contact_phone VARCHAR(255),
+    email         VARCHAR(255),
+    name          VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS machine (
+    id             BIGINT NOT NULL,
+    condominium_id BIGINT,
+    identifier     VARCHAR(255),
+    type           VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT machine_identifier_key UNIQUE (identifier),
+    CONSTRAINT fknkvc3hig4k7um8jub3nrv4gvg FOREIGN KEY (condominium_id) REFERENCES condominium (id)
+);
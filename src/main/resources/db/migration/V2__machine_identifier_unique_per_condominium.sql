@@ -0,0 +1,4 @@
+ALTER TABLE machine DROP CONSTRAINT IF EXISTS machine_identifier_key;
+
+ALTER TABLE machine
+    ADD CONSTRAINT uk_machine_condominium_identifier UNIQUE (condominium_id, identifier);
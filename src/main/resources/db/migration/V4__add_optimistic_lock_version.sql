@@ -0,0 +1,2 @@
+ALTER TABLE condominium ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE machine ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
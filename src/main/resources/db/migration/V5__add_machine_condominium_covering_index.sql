@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS ix_machine_condominium_identifier_covering
+    ON machine (condominium_id, identifier, id, type, version);
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS ix_machine_type_identifier
+    ON machine (type_id, identifier, id);
@@ -0,0 +1,205 @@
+package com.overflow.laundry;
+
+import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.MachineRequestDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.overflow.laundry.constant.CacheNames.MACHINES;
+import static com.overflow.laundry.constant.CacheNames.MACHINES_BY_IDENTIFIER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.PUT;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.cache.type=caffeine")
+@Sql(scripts = "/init-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class CacheIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  @LocalManagementPort
+  private int managementPort;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @MockitoBean
+  JwtDecoder jwtDecoder;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setUp() {
+    mockTestJwtTokenWithManagerPermission();
+    cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void givenMachineWasRead_whenGetMachineByIdAgain_thenServeFromCache() {
+    getMachine("/machines/101");
+    long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = getMachine("/machines/101");
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().identifier()).isEqualTo("test-identifier");
+    assertThat(statementsAfterFirstRead).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+  }
+
+  @Test
+  void givenCondominiumWasRead_whenGetCondominiumByIdAgain_thenServeFromCache() {
+    restTemplate.exchange("http://localhost:" + port + "/condominiums/55", GET,
+        createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<CondominiumResponseDto>>() {
+        });
+    long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+
+    ResponseEntity<StandardResponse<CondominiumResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/condominiums/55", GET, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<CondominiumResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+  }
+
+  @Test
+  void givenMachineWasReadByIdentifier_whenReadAgain_thenServeFromCacheById() {
+    String path = "/machines/identifier?condominiumId=55&identifier=test-identifier";
+    getMachine(path);
+    long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = getMachine(path);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().id()).isEqualTo(101L);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+    assertThat(cacheManager.getCache(MACHINES_BY_IDENTIFIER).get(new SimpleKey(55L, "test-identifier"), Long.class))
+        .isEqualTo(101L);
+    assertThat(cacheManager.getCache(MACHINES).get(101L, MachineResponseDto.class)).isNotNull();
+  }
+
+  @Test
+  void givenMachineCachedByIdentifier_whenMachineIsUpdated_thenOldIdentifierIsNotServed() {
+    assertThat(getMachine("/machines/identifier?condominiumId=55&identifier=test-identifier").getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+    getMachine("/machines/101");
+
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .id(101L)
+        .identifier("updated-identifier")
+        .condominiumId(55L)
+        .type("Dryer")
+        .version(0L)
+        .build();
+    restTemplate.exchange("http://localhost:" + port + "/machines", PUT,
+        createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+
+    assertThat(getMachine("/machines/identifier?condominiumId=55&identifier=test-identifier").getStatusCode())
+        .isEqualTo(HttpStatus.NOT_FOUND);
+    ResponseEntity<StandardResponse<MachineResponseDto>> updatedMachine = getMachine("/machines/101");
+    assertThat(updatedMachine.getBody()).isNotNull();
+    assertThat(updatedMachine.getBody().getData().identifier()).isEqualTo("updated-identifier");
+    assertThat(updatedMachine.getBody().getData().type()).isEqualTo("Dryer");
+  }
+
+  @Test
+  void givenMachineCached_whenMachineIsDeleted_thenReturnNotFound() {
+    getMachine("/machines/101");
+    getMachine("/machines/identifier?condominiumId=55&identifier=test-identifier");
+
+    restTemplate.exchange("http://localhost:" + port + "/machines/101", DELETE,
+        createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<String>>() {
+        });
+
+    assertThat(getMachine("/machines/101").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(getMachine("/machines/identifier?condominiumId=55&identifier=test-identifier").getStatusCode())
+        .isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void givenCachesAreConfigured_whenGetCacheMetrics_thenExposeHitsAndMisses() {
+    getMachine("/machines/101");
+    getMachine("/machines/101");
+
+    ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+        "http://localhost:" + managementPort + "/actuator/metrics/cache.gets?tag=cache:machines&tag=result:hit", GET,
+        createRequestEntityWithDefaultHeaders(null), new ParameterizedTypeReference<Map<String, Object>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsKey("measurements");
+    assertThat(restTemplate.exchange("http://localhost:" + managementPort + "/actuator/metrics/cache.evictions",
+        GET, createRequestEntityWithDefaultHeaders(null), String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  private ResponseEntity<StandardResponse<MachineResponseDto>> getMachine(String path) {
+    return restTemplate.exchange("http://localhost:" + port + path, GET, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+  }
+
+  private <T> HttpEntity<T> createRequestEntityWithDefaultHeaders(T body) {
+    return new HttpEntity<>(body, new HttpHeaders() {
+      {
+        set("Content-Type", "application/json");
+        set("Accept", "application/json");
+        set("Authorization", "Bearer test_token");
+      }
+    });
+  }
+
+  private void mockTestJwtTokenWithManagerPermission() {
+    Jwt mockjwt = Jwt.withTokenValue("test_token")
+        .header("alg", "none")
+        .claim("sub", "test_user")
+        .claim("cognito:groups", new ArrayList<>(List.of("laundry-manager")))
+        .build();
+    when(jwtDecoder.decode("test_token")).thenReturn(mockjwt);
+  }
+}
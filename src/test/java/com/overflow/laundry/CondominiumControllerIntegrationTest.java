@@ -3,6 +3,7 @@ package com.overflow.laundry;
 import com.overflow.laundry.config.StandardResponse;
 import com.overflow.laundry.constant.ObjectValidatorErrors;
 import com.overflow.laundry.exception.StandardErrorMessage;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
 import com.overflow.laundry.model.dto.CondominiumRequestDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
@@ -125,6 +126,31 @@ public class CondominiumControllerIntegrationTest {
     assertThat(response.getBody().getData().totalElements()).isEqualTo(1);
   }
 
+  @Test
+  void givenCondominiumWithMachines_whenGetCondominiumMachines_thenReturnItsMachines() {
+    ResponseEntity<StandardResponse<PaginationResponseDto<CondominiumMachineResponseDto>>> response =
+        restTemplate.exchange("http://localhost:" + port + "/condominiums/55/machines", GET,
+            createRequestEntityWithDefaultHeaders(null),
+            new ParameterizedTypeReference<StandardResponse<PaginationResponseDto<CondominiumMachineResponseDto>>>() {
+            });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(CondominiumMachineResponseDto::identifier)
+        .containsExactly("test-identifier");
+    assertThat(response.getBody().getData().totalElements()).isEqualTo(1);
+  }
+
+  @Test
+  void givenMissingCondominium_whenGetCondominiumMachines_thenReturnNotFound() {
+    ResponseEntity<StandardResponse<StandardErrorMessage>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/condominiums/999/machines", GET, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<StandardErrorMessage>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
   @ParameterizedTest
   @MethodSource("provideBrokenPaginationInfo")
   void givenBrokenPaginationInfo_whenGetAllCondominiums_thenReturnBadRequest(
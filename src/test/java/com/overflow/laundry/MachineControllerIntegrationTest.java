@@ -4,6 +4,10 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.overflow.laundry.config.StandardResponse;
 import com.overflow.laundry.constant.ObjectValidatorErrors;
 import com.overflow.laundry.exception.StandardErrorMessage;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchItemResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
@@ -20,6 +24,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -29,6 +34,11 @@ import org.springframework.test.context.jdbc.Sql;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -93,7 +103,7 @@ public class MachineControllerIntegrationTest {
     MachineRequestDto machineRequestDto = MachineRequestDto.builder()
         .identifier("identifier")
         .condominiumId(55L)
-        .type("test-type")
+        .type("Dryer")
         .build();
 
     HttpEntity<MachineRequestDto> requestEntity = createRequestEntityWithDefaultHeaders(machineRequestDto);
@@ -111,6 +121,34 @@ public class MachineControllerIntegrationTest {
     assertThat(response.getBody().getData().condominium().id()).isEqualTo(machineRequestDto.condominiumId());
   }
 
+  @Test
+  void givenMachineBatch_whenCreateMachines_thenCreateValidMachinesAndReportFailures() {
+    List<MachineRequestDto> machineRequestDtos = List.of(
+        MachineRequestDto.builder().identifier("batch-identifier-1").condominiumId(55L).type("Washer").build(),
+        MachineRequestDto.builder().identifier("test-identifier").condominiumId(55L).type("Washer").build(),
+        MachineRequestDto.builder().identifier("batch-identifier-2").condominiumId(999L).type("Dryer").build(),
+        MachineRequestDto.builder().identifier("batch-identifier-3").condominiumId(55L).type("Dryer").build());
+
+    HttpEntity<List<MachineRequestDto>> requestEntity = createRequestEntityWithDefaultHeaders(machineRequestDtos);
+
+    ResponseEntity<StandardResponse<MachineBatchResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/batch", POST, requestEntity,
+        new ParameterizedTypeReference<StandardResponse<MachineBatchResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+    assertThat(response.getBody()).isNotNull();
+    MachineBatchResponseDto result = response.getBody().getData();
+    assertThat(result.createdCount()).isEqualTo(2);
+    assertThat(result.failedCount()).isEqualTo(2);
+    assertThat(result.items()).extracting(MachineBatchItemResponseDto::created)
+        .containsExactly(true, false, false, true);
+    assertThat(result.items().get(0).machine().id()).isNotNull();
+    assertThat(result.items().get(1).details()).isEqualTo("Machine identifier already in use");
+    assertThat(result.items().get(2).details()).isEqualTo("Condominium not found");
+    assertThat(result.items().get(3).machine().identifier()).isEqualTo("batch-identifier-3");
+  }
+
   @Test
   void givenIdentifierAndCondominiumId_whenGetMachineByIdentifier_thenReturnMachine() {
     String identifier = "test-identifier";
@@ -190,7 +228,8 @@ public class MachineControllerIntegrationTest {
         .id(machineId)
         .identifier("updated-identifier")
         .condominiumId(condominiumId)
-        .type("updated-type")
+        .type("Dryer")
+        .version(0L)
         .build();
 
     HttpEntity<MachineRequestDto> requestEntity = createRequestEntityWithDefaultHeaders(machineRequestDto);
@@ -205,6 +244,79 @@ public class MachineControllerIntegrationTest {
     assertThat(response.getBody().getData().id()).isEqualTo(machineId);
     assertThat(response.getBody().getData().identifier()).isEqualTo(machineRequestDto.identifier());
     assertThat(response.getBody().getData().type()).isEqualTo(machineRequestDto.type());
+    assertThat(response.getBody().getData().version()).isEqualTo(1L);
+  }
+
+  @Test
+  void givenStaleVersion_whenUpdateMachine_thenReturnConflictAndKeepFirstUpdate() {
+    MachineRequestDto firstUpdate = MachineRequestDto.builder()
+        .id(101L).identifier("first-identifier").condominiumId(55L).type("Washer").version(0L).build();
+    MachineRequestDto staleUpdate = MachineRequestDto.builder()
+        .id(101L).identifier("stale-identifier").condominiumId(55L).type("Dryer").version(0L).build();
+
+    assertThat(updateMachine(firstUpdate).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    ResponseEntity<StandardResponse<MachineResponseDto>> staleResponse = updateMachine(staleUpdate);
+
+    assertThat(staleResponse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    ResponseEntity<StandardResponse<MachineResponseDto>> machine = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/101", GET, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+    assertThat(machine.getBody()).isNotNull();
+    assertThat(machine.getBody().getData().identifier()).isEqualTo("first-identifier");
+    assertThat(machine.getBody().getData().version()).isEqualTo(1L);
+  }
+
+  @Test
+  void givenConcurrentUpdatesWithSameVersion_whenUpdateMachine_thenOnlyOneSucceeds() throws Exception {
+    int concurrentUpdates = 8;
+    List<Callable<HttpStatusCode>> updates = IntStream.range(0, concurrentUpdates)
+        .<Callable<HttpStatusCode>>mapToObj(i -> () -> updateMachine(MachineRequestDto.builder()
+            .id(101L).identifier("concurrent-" + i).condominiumId(55L).type("Washer").version(0L).build())
+            .getStatusCode())
+        .toList();
+
+    List<HttpStatusCode> statuses = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(concurrentUpdates)) {
+      for (Future<HttpStatusCode> status : executor.invokeAll(updates)) {
+        statuses.add(status.get());
+      }
+    }
+
+    assertThat(statuses).filteredOn(HttpStatus.ACCEPTED::equals).hasSize(1);
+    assertThat(statuses).filteredOn(HttpStatus.CONFLICT::equals).hasSize(concurrentUpdates - 1);
+  }
+
+  @Test
+  void givenIdentifierUsedInSameCondominium_whenUpdateMachine_thenReturnConflict() {
+    createMachine(MachineRequestDto.builder().identifier("taken-identifier").condominiumId(55L).type("Dryer").build());
+
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = updateMachine(MachineRequestDto.builder()
+        .id(101L).identifier("taken-identifier").condominiumId(55L).type("Washer").version(0L).build());
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void givenCondominiumDoesNotExist_whenUpdateMachine_thenReturnNotFound() {
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = updateMachine(MachineRequestDto.builder()
+        .id(101L).identifier("test-identifier").condominiumId(999L).type("Washer").version(0L).build());
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  private ResponseEntity<StandardResponse<MachineResponseDto>> updateMachine(MachineRequestDto machineRequestDto) {
+    return restTemplate.exchange("http://localhost:" + port + "/machines", PUT,
+        createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+  }
+
+  private ResponseEntity<StandardResponse<MachineResponseDto>> createMachine(MachineRequestDto machineRequestDto) {
+    return restTemplate.exchange("http://localhost:" + port + "/machines", POST,
+        createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
   }
 
   @Test
@@ -221,6 +333,34 @@ public class MachineControllerIntegrationTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
   }
 
+  @Test
+  void givenMissingMachineId_whenDeleteMachine_thenReturnNotFound() {
+    ResponseEntity<StandardResponse<StandardErrorMessage>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/999", DELETE, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<StandardErrorMessage>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void givenExistingAndMissingMachineIds_whenDeleteMachines_thenReturnDeletedCount() {
+    ResponseEntity<StandardResponse<MachineBatchDeleteResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines?ids=101,999", DELETE, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<MachineBatchDeleteResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().requestedCount()).isEqualTo(2);
+    assertThat(response.getBody().getData().deletedCount()).isEqualTo(1);
+    ResponseEntity<StandardResponse<MachineResponseDto>> deletedMachine = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/101", GET, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+    assertThat(deletedMachine.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
   @Test
   void givenNothing_whenGetAllMachines_thenReturnAllMachinesWithStandardPagination() throws JsonProcessingException {
     HttpEntity<Object> requestEntityWithDefaultHeaders = createRequestEntityWithDefaultHeaders(null);
@@ -248,6 +388,121 @@ public class MachineControllerIntegrationTest {
 
   }
 
+  @Test
+  void givenCursorPagination_whenGetAllMachinesIsCalled_thenWalkAllMachinesWithoutRepeating() {
+    HttpEntity<MachineRequestDto> createRequest = createRequestEntityWithDefaultHeaders(MachineRequestDto.builder()
+        .identifier("a-identifier")
+        .condominiumId(55L)
+        .type("Dryer")
+        .build());
+    restTemplate.exchange("http://localhost:" + port + "/machines", POST, createRequest,
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+    HttpEntity<Object> requestEntityWithDefaultHeaders = createRequestEntityWithDefaultHeaders(null);
+
+    ResponseEntity<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>> firstPage = restTemplate.exchange(
+        "http://localhost:" + port + "/machines?after=&size=1&sortBy=identifier&direction=ASC", GET,
+        requestEntityWithDefaultHeaders,
+        new ParameterizedTypeReference<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>>() {
+        });
+
+    assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(firstPage.getBody()).isNotNull();
+    assertThat(firstPage.getBody().getData().content()).extracting(MachineResponseDto::identifier)
+        .containsExactly("a-identifier");
+    assertThat(firstPage.getBody().getData().last()).isFalse();
+    assertThat(firstPage.getBody().getData().nextCursor()).isNotBlank();
+
+    String nextCursor = firstPage.getBody().getData().nextCursor();
+    String secondPageUrl = "http://localhost:" + port + "/machines?after=" + nextCursor
+        + "&size=1&sortBy=identifier&direction=ASC";
+    ResponseEntity<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>> secondPage =
+        restTemplate.exchange(secondPageUrl, GET, requestEntityWithDefaultHeaders,
+            new ParameterizedTypeReference<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>>() {
+            });
+
+    assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(secondPage.getBody()).isNotNull();
+    assertThat(secondPage.getBody().getData().content()).extracting(MachineResponseDto::identifier)
+        .containsExactly("test-identifier");
+    assertThat(secondPage.getBody().getData().last()).isTrue();
+    assertThat(secondPage.getBody().getData().nextCursor()).isNull();
+  }
+
+  @Test
+  void givenCursorForAnotherSorting_whenGetAllMachinesIsCalled_thenReturnBadRequest() {
+    HttpEntity<Object> requestEntityWithDefaultHeaders = createRequestEntityWithDefaultHeaders(null);
+
+    ResponseEntity<StandardResponse<StandardErrorMessage>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines?after=eyJpZCI6IjEwMSJ9&sortBy=identifier", GET,
+        requestEntityWithDefaultHeaders, new ParameterizedTypeReference<StandardResponse<StandardErrorMessage>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().details()).isEqualTo(ObjectValidatorErrors.PAGINATION_CURSOR_INVALID);
+  }
+
+  @Test
+  void givenTypeInAnotherCase_whenCreateMachine_thenStoreCanonicalType() {
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .identifier("lowercase-type")
+        .condominiumId(55L)
+        .type(" washer ")
+        .build();
+
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines", POST, createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().type()).isEqualTo("Washer");
+  }
+
+  @Test
+  void givenUnsupportedType_whenCreateMachine_thenReturnBadRequest() {
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .identifier("unsupported-type")
+        .condominiumId(55L)
+        .type("Boiler")
+        .build();
+
+    ResponseEntity<StandardResponse<StandardErrorMessage>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines", POST, createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<StandardErrorMessage>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().details()).isEqualTo(ObjectValidatorErrors.MACHINE_TYPE_NOT_SUPPORTED);
+  }
+
+  @Test
+  void givenUnsupportedType_whenSearchMachines_thenReturnBadRequest() {
+    ResponseEntity<StandardResponse<StandardErrorMessage>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/search?type=Boiler", GET,
+        createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<StandardErrorMessage>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void givenSortByNotIndexedField_whenSearchMachines_thenReturnBadRequest() {
+    ResponseEntity<StandardResponse<StandardErrorMessage>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/search?type=Washer&sortBy=type", GET,
+        createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<StandardErrorMessage>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().details()).isEqualTo(ObjectValidatorErrors.MACHINE_SEARCH_SORT_INVALID);
+  }
+
   @ParameterizedTest
   @MethodSource("provideBrokenPaginationInfo")
   void givenSomePaginationPropertyIsInvalid_whenGetAllMachinesIsCalled_thenReturnBadRequest(Integer page,
@@ -0,0 +1,308 @@
+package com.overflow.laundry;
+
+import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
+import com.overflow.laundry.model.dto.MachineRequestDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
+import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpMethod.PUT;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = {"/init-data.sql", "/multi-condominium-data.sql"},
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class MachineQueryCountIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockitoBean
+  JwtDecoder jwtDecoder;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setUp() {
+    mockTestJwtTokenWithManagerPermission();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void givenMachinesFromSeveralCondominiums_whenGetAllMachines_thenRunPageAndCountStatementsOnly() {
+    ResponseEntity<StandardResponse<PaginationResponseDto<MachineResponseDto>>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines?size=2&sortBy=id&direction=ASC", GET,
+        createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<PaginationResponseDto<MachineResponseDto>>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(machine -> machine.condominium().id())
+        .containsExactly(55L, 56L);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenMachinesFromSeveralCondominiums_whenGetMachinesWithoutTotal_thenRunPageStatementOnly() {
+    ResponseEntity<StandardResponse<SlicePaginationResponseDto<MachineResponseDto>>> response =
+        restTemplate.exchange("http://localhost:" + port + "/machines?withTotal=false&size=2&sortBy=id&direction=ASC",
+            GET, createRequestEntityWithDefaultHeaders(),
+            new ParameterizedTypeReference<StandardResponse<SlicePaginationResponseDto<MachineResponseDto>>>() {
+            });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(machine -> machine.condominium().id())
+        .containsExactly(55L, 56L);
+    assertThat(response.getBody().getData().last()).isFalse();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenCondominiumWithMachines_whenGetCondominiumMachines_thenRunProjectionWithoutLoadingEntities() {
+    ResponseEntity<StandardResponse<PaginationResponseDto<CondominiumMachineResponseDto>>> response =
+        restTemplate.exchange("http://localhost:" + port + "/condominiums/56/machines?size=1&direction=DESC", GET,
+            createRequestEntityWithDefaultHeaders(),
+            new ParameterizedTypeReference<StandardResponse<PaginationResponseDto<CondominiumMachineResponseDto>>>() {
+            });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(CondominiumMachineResponseDto::identifier)
+        .containsExactly("side-identifier-2");
+    assertThat(response.getBody().getData().totalElements()).isEqualTo(2);
+    // page and count queries only; neither the machines nor their condominium are loaded as entities
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenSearchFilters_whenSearchMachines_thenReturnOnlyMatchingMachinesWithoutLoadingEntities() {
+    ResponseEntity<StandardResponse<PaginationResponseDto<MachineResponseDto>>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/search?type=Washer&condominiumId=56&identifierPrefix=side-"
+            + "&sortBy=identifier&direction=ASC", GET,
+        createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<PaginationResponseDto<MachineResponseDto>>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(MachineResponseDto::id).containsExactly(103L);
+    assertThat(response.getBody().getData().totalElements()).isEqualTo(1);
+    // a single page holds every match, so the total comes without a count query
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenIdentifierPrefixWithWildcard_whenSearchMachines_thenMatchWildcardLiterally() {
+    ResponseEntity<StandardResponse<PaginationResponseDto<MachineResponseDto>>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/search?identifierPrefix=side_", GET,
+        createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<PaginationResponseDto<MachineResponseDto>>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).isEmpty();
+  }
+
+  @Test
+  void givenMachinesFromSeveralCondominiums_whenGetAllMachinesByCursor_thenRunSingleStatement() {
+    ResponseEntity<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>> response =
+        restTemplate.exchange("http://localhost:" + port + "/machines?after=&size=2&sortBy=id&direction=ASC", GET,
+            createRequestEntityWithDefaultHeaders(),
+            new ParameterizedTypeReference<StandardResponse<CursorPaginationResponseDto<MachineResponseDto>>>() {
+            });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(machine -> machine.condominium().id())
+        .containsExactly(55L, 56L);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void givenMachineId_whenGetMachineById_thenRunSingleStatement() {
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/102", GET, createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().condominium().name()).isEqualTo("Side Park");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenMachineIds_whenGetMachinesByIds_thenRunSingleStatementAndReportMissingIds() {
+    ResponseEntity<StandardResponse<MultiGetResponseDto<MachineResponseDto>>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines?ids=103,999,101", GET, createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<MultiGetResponseDto<MachineResponseDto>>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().content()).extracting(MachineResponseDto::id).containsExactly(103L, 101L);
+    assertThat(response.getBody().getData().missingIds()).containsExactly(999L);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenIdentifierAndCondominiumId_whenGetMachineByIdentifier_thenRunSingleStatement() {
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/identifier?condominiumId=56&identifier=side-identifier", GET,
+        createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().condominium().name()).isEqualTo("Side Park");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenMachineWithVersion_whenUpdateMachine_thenRunVersionedUpdateAndCondominiumReadOnly() {
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .id(102L).identifier("moved-identifier").condominiumId(55L).type("Dryer").version(0L).build();
+
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines", PUT, createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().condominium().name()).isEqualTo("Central Park");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  void givenMachineId_whenDeleteMachine_thenRunSingleDeleteStatement() {
+    ResponseEntity<StandardResponse<String>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/102", DELETE, createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<String>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenSeveralMachineIds_whenDeleteMachines_thenRunSingleDeleteStatement() {
+    ResponseEntity<StandardResponse<MachineBatchDeleteResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines?ids=101,102,103", DELETE, createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<MachineBatchDeleteResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().deletedCount()).isEqualTo(3);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void givenBulkOfMachines_whenCreateMachines_thenAllocateIdsPerBlockAndInsertInJdbcBatches() {
+    List<MachineRequestDto> machineRequestDtos = IntStream.range(0, 120)
+        .mapToObj(i -> MachineRequestDto.builder().identifier("bulk-" + i).condominiumId(55L).type("Washer").build())
+        .toList();
+
+    ResponseEntity<StandardResponse<MachineBatchResponseDto>> response = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/batch", POST, createRequestEntityWithDefaultHeaders(machineRequestDtos),
+        new ParameterizedTypeReference<StandardResponse<MachineBatchResponseDto>>() {
+        });
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().createdCount()).isEqualTo(120);
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+    // condominium and duplicate lookups, at most one sequence call per block of 50 ids and one batched insert
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2 + 3 + 1);
+  }
+
+  @Test
+  void givenMachinesFromSeveralCondominiums_whenExportMachines_thenStreamRowsFromSingleStatementWithoutEntities() {
+    ResponseEntity<String> response = restTemplate.exchange("http://localhost:" + port + "/machines/export", GET,
+        createRequestEntityWithDefaultHeaders(), String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().lines()).hasSize(3)
+        .first().asString().contains("\"id\":101", "\"name\":\"Central Park\"");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  private HttpEntity<Object> createRequestEntityWithDefaultHeaders() {
+    return createRequestEntityWithDefaultHeaders(null);
+  }
+
+  private <T> HttpEntity<T> createRequestEntityWithDefaultHeaders(T body) {
+    return new HttpEntity<>(body, new HttpHeaders() {
+      {
+        set("Content-Type", "application/json");
+        set("Accept", "application/json");
+        set("Authorization", "Bearer test_token");
+      }
+    });
+  }
+
+  private void mockTestJwtTokenWithManagerPermission() {
+    Jwt mockjwt = Jwt.withTokenValue("test_token")
+        .header("alg", "none")
+        .claim("sub", "test_user")
+        .claim("cognito:groups", new ArrayList<>(List.of("laundry-manager")))
+        .build();
+    when(jwtDecoder.decode("test_token")).thenReturn(mockjwt);
+  }
+}
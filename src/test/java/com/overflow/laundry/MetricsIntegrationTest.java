@@ -0,0 +1,165 @@
+package com.overflow.laundry;
+
+import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
+
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "laundry.sql-tracing.enabled=true")
+@Sql(scripts = "/init-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class MetricsIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  @LocalManagementPort
+  private int managementPort;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @MockitoBean
+  JwtDecoder jwtDecoder;
+
+  @BeforeEach
+  public void setUp() {
+    mockTestJwtTokenWithManagerPermission();
+  }
+
+  @Test
+  void givenMachineRequests_whenScrapePrometheus_thenExposeEndpointServiceAndRepositoryTimers() {
+    ResponseEntity<StandardResponse<MachineResponseDto>> machineResponse = restTemplate.exchange(
+        "http://localhost:" + port + "/machines/identifier?condominiumId=55&identifier=test-identifier", GET,
+        createRequestEntityWithDefaultHeaders(),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+    assertThat(machineResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    String metrics = scrapePrometheus();
+
+    assertThat(metrics)
+        .contains("http_server_requests_seconds_bucket{")
+        .containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/machines/identifier\"")
+        .containsPattern("laundry_service_invocations_seconds_bucket\\{[^}]*class=\"com.overflow.laundry.service"
+            + ".impl.MachineServiceImpl\"[^}]*method=\"getMachineByCondominiumAndIdentifier\"")
+        .containsPattern("spring_data_repository_invocations_seconds_bucket\\{[^}]*method="
+            + "\"findMachineByCondominiumIdAndIdentifier\"[^}]*repository=\"MachineRepository\"");
+  }
+
+  @Test
+  void givenMissingMachine_whenScrapePrometheus_thenCountNotFoundAsExpectedError() {
+    ResponseEntity<String> machineResponse = restTemplate.exchange("http://localhost:" + port + "/machines/999",
+        GET, createRequestEntityWithDefaultHeaders(), String.class);
+    assertThat(machineResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+    assertThat(scrapePrometheus())
+        .containsPattern("laundry_errors_expected_total\\{[^}]*exception=\"MachineNotFoundException\"");
+  }
+
+  @Test
+  void givenApplicationIsRunning_whenScrapePrometheus_thenExposeConnectionPoolAndHibernateMeters() {
+    String metrics = scrapePrometheus();
+
+    assertThat(metrics)
+        .contains("hikaricp_connections_active{")
+        .contains("hikaricp_connections_pending{")
+        .contains("hibernate_statements_total{")
+        .contains("hibernate_query_executions_total{");
+  }
+
+  @Test
+  void givenMachinesRequest_whenReadSlowQueries_thenListStatementWithRowsAndServiceMethod() {
+    assertThat(restTemplate.exchange("http://localhost:" + managementPort + "/actuator/slowqueries", DELETE,
+        createRequestEntityWithDefaultHeaders(), String.class).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    ResponseEntity<String> machineResponse = restTemplate.exchange("http://localhost:" + port + "/machines?ids=101",
+        GET, createRequestEntityWithDefaultHeaders(), String.class);
+    assertThat(machineResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+        "http://localhost:" + managementPort + "/actuator/slowqueries", GET, createRequestEntityWithDefaultHeaders(),
+        String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody())
+        .contains("\"rows\":1")
+        .contains("\"origin\":\"MachineServiceImpl.getMachinesByIds\"");
+  }
+
+  @Test
+  void givenNoToken_whenRequestHealth_thenReturnOk() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        "http://localhost:" + managementPort + "/actuator/health", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void givenNoToken_whenReadSlowQueries_thenReturnUnauthorized() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        "http://localhost:" + managementPort + "/actuator/slowqueries", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void givenNoToken_whenScrapePrometheusOnApplicationPort_thenReturnUnauthorized() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        "http://localhost:" + port + "/actuator/prometheus", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  private String scrapePrometheus() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        "http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    return response.getBody();
+  }
+
+  private HttpEntity<Object> createRequestEntityWithDefaultHeaders() {
+    return new HttpEntity<>(null, new HttpHeaders() {
+      {
+        set("Content-Type", "application/json");
+        set("Accept", "application/json");
+        set("Authorization", "Bearer test_token");
+      }
+    });
+  }
+
+  private void mockTestJwtTokenWithManagerPermission() {
+    Jwt mockjwt = Jwt.withTokenValue("test_token")
+        .header("alg", "none")
+        .claim("sub", "test_user")
+        .claim("cognito:groups", new ArrayList<>(List.of("laundry-manager")))
+        .build();
+    when(jwtDecoder.decode("test_token")).thenReturn(mockjwt);
+  }
+}
@@ -0,0 +1,117 @@
+package com.overflow.laundry;
+
+import com.overflow.laundry.exception.MachineNotFoundException;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.repository.MachineRepository;
+import com.overflow.laundry.service.MachineService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static com.overflow.laundry.constant.MetricNames.SERVICE_COALESCED_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class RequestCoalescingIntegrationTest {
+
+  private static final int CALLERS = 50;
+
+  @Autowired
+  private MachineService machineService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @MockitoBean
+  private MachineRepository machineRepository;
+
+  @MockitoBean
+  JwtDecoder jwtDecoder;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(CALLERS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void givenConcurrentLookupsOfSameMachine_whenGetMachineByIdentifier_thenRunSingleQueryForAll() throws Exception {
+    MachineResponseDto machine = MachineResponseDto.builder().id(102L).identifier("side-identifier").build();
+    double coalescedBefore = coalescedCalls("getMachineByCondominiumAndIdentifier");
+    when(machineRepository.findMachineByCondominiumIdAndIdentifier("side-identifier", 56L)).thenAnswer(invocation -> {
+      awaitCoalescedCalls("getMachineByCondominiumAndIdentifier", coalescedBefore + CALLERS - 1);
+      return Optional.of(machine);
+    });
+
+    List<Future<MachineResponseDto>> results = executor.invokeAll(callers(
+        () -> machineService.getMachineByCondominiumAndIdentifier(56L, "side-identifier")));
+
+    for (Future<MachineResponseDto> result : results) {
+      assertThat(result.get()).isEqualTo(machine);
+    }
+    verify(machineRepository, times(1)).findMachineByCondominiumIdAndIdentifier("side-identifier", 56L);
+    assertThat(coalescedCalls("getMachineByCondominiumAndIdentifier") - coalescedBefore).isEqualTo(CALLERS - 1);
+
+    machineService.getMachineByCondominiumAndIdentifier(56L, "side-identifier");
+    verify(machineRepository, times(2)).findMachineByCondominiumIdAndIdentifier("side-identifier", 56L);
+  }
+
+  @Test
+  void givenConcurrentLookupsOfMissingMachine_whenGetMachineById_thenShareNotFoundFromSingleQuery() throws Exception {
+    double coalescedBefore = coalescedCalls("getMachineById");
+    when(machineRepository.findDtoById(999L)).thenAnswer(invocation -> {
+      awaitCoalescedCalls("getMachineById", coalescedBefore + CALLERS - 1);
+      return Optional.empty();
+    });
+
+    List<Future<MachineResponseDto>> results = executor.invokeAll(callers(() -> machineService.getMachineById(999L)));
+
+    for (Future<MachineResponseDto> result : results) {
+      ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+      assertThat(exception.getCause()).isInstanceOf(MachineNotFoundException.class);
+    }
+    verify(machineRepository, times(1)).findDtoById(999L);
+  }
+
+  private static <T> List<Callable<T>> callers(Callable<T> call) {
+    return IntStream.range(0, CALLERS).mapToObj(i -> call).toList();
+  }
+
+  private void awaitCoalescedCalls(String method, double expected) {
+    await().atMost(Duration.ofSeconds(10)).until(() -> coalescedCalls(method) >= expected);
+  }
+
+  private double coalescedCalls(String method) {
+    Counter counter = meterRegistry.find(SERVICE_COALESCED_CALLS).tag("method", method).counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
@@ -0,0 +1,143 @@
+package com.overflow.laundry;
+
+import com.overflow.laundry.config.StandardResponse;
+import com.overflow.laundry.model.dto.MachineRequestDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.overflow.laundry.constant.CacheNames.CONDOMINIUM_REGION;
+import static com.overflow.laundry.constant.CacheNames.MACHINE_BY_IDENTIFIER_REGION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpMethod.PUT;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = {"/init-data.sql", "/multi-condominium-data.sql"},
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class SecondLevelCacheIntegrationTest {
+
+  private static final String MACHINE_BY_IDENTIFIER_URL =
+      "/machines/identifier?condominiumId=56&identifier=side-identifier";
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockitoBean
+  JwtDecoder jwtDecoder;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setUp() {
+    mockTestJwtTokenWithManagerPermission();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void givenCondominiumAlreadyLoaded_whenCreateMachine_thenReadCondominiumWithoutSql() {
+    assertThat(createMachine("first-cached-identifier").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    statistics.clear();
+
+    assertThat(createMachine("second-cached-identifier").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+    assertThat(statistics.getDomainDataRegionStatistics(CONDOMINIUM_REGION).getHitCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void givenMachineLookedUpByIdentifier_whenLookedUpAgain_thenServeFromQueryCacheWithoutSql() {
+    assertThat(getMachine(MACHINE_BY_IDENTIFIER_URL).getStatusCode()).isEqualTo(HttpStatus.OK);
+    statistics.clear();
+
+    ResponseEntity<StandardResponse<MachineResponseDto>> response = getMachine(MACHINE_BY_IDENTIFIER_URL);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getData().condominium().name()).isEqualTo("Side Park");
+    assertThat(statistics.getQueryRegionStatistics(MACHINE_BY_IDENTIFIER_REGION).getHitCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  void givenMachineCachedByIdentifier_whenMachineIsUpdated_thenQueryRunsAgainAndMissesOldIdentifier() {
+    assertThat(getMachine(MACHINE_BY_IDENTIFIER_URL).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .id(102L).identifier("renamed-identifier").condominiumId(56L).type("Dryer").version(0L).build();
+    restTemplate.exchange("http://localhost:" + port + "/machines", PUT,
+        createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+    statistics.clear();
+
+    assertThat(getMachine(MACHINE_BY_IDENTIFIER_URL).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(statistics.getQueryRegionStatistics(MACHINE_BY_IDENTIFIER_REGION).getHitCount()).isZero();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  private ResponseEntity<StandardResponse<MachineResponseDto>> createMachine(String identifier) {
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .identifier(identifier).condominiumId(55L).type("Washer").build();
+    return restTemplate.exchange("http://localhost:" + port + "/machines", POST,
+        createRequestEntityWithDefaultHeaders(machineRequestDto),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+  }
+
+  private ResponseEntity<StandardResponse<MachineResponseDto>> getMachine(String path) {
+    return restTemplate.exchange("http://localhost:" + port + path, GET, createRequestEntityWithDefaultHeaders(null),
+        new ParameterizedTypeReference<StandardResponse<MachineResponseDto>>() {
+        });
+  }
+
+  private <T> HttpEntity<T> createRequestEntityWithDefaultHeaders(T body) {
+    return new HttpEntity<>(body, new HttpHeaders() {
+      {
+        set("Content-Type", "application/json");
+        set("Accept", "application/json");
+        set("Authorization", "Bearer test_token");
+      }
+    });
+  }
+
+  private void mockTestJwtTokenWithManagerPermission() {
+    Jwt mockjwt = Jwt.withTokenValue("test_token")
+        .header("alg", "none")
+        .claim("sub", "test_user")
+        .claim("cognito:groups", new ArrayList<>(List.of("laundry-manager")))
+        .build();
+    when(jwtDecoder.decode("test_token")).thenReturn(mockjwt);
+  }
+}
@@ -0,0 +1,20 @@
+package com.overflow.laundry;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * Empties the Hibernate second-level cache before each test. The @Sql scripts rewrite the tables behind
+ * Hibernate's back, so entries and query results cached by a previous test would otherwise outlive them.
+ */
+public class SecondLevelCacheResetListener extends AbstractTestExecutionListener {
+
+  @Override
+  public void beforeTestMethod(TestContext testContext) {
+    testContext.getApplicationContext().getBeanProvider(EntityManagerFactory.class)
+        .ifAvailable(entityManagerFactory -> entityManagerFactory.unwrap(SessionFactory.class).getCache()
+            .evictAllRegions());
+  }
+}
@@ -0,0 +1,120 @@
+package com.overflow.laundry.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.overflow.laundry.constant.MetricNames.TOKEN_VERIFICATION;
+import static com.overflow.laundry.constant.MetricNames.TOKEN_VERIFICATION_SAVED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingJwtAuthenticationManagerTest {
+
+  @Mock
+  JwtDecoder jwtDecoder;
+
+  MeterRegistry meterRegistry;
+
+  CachingJwtAuthenticationManager authenticationManager;
+
+  @BeforeEach
+  void setUp() {
+    JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
+    jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(new CognitoRoleConverter());
+    JwtAuthenticationProvider jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtDecoder);
+    jwtAuthenticationProvider.setJwtAuthenticationConverter(jwtAuthenticationConverter);
+    meterRegistry = new SimpleMeterRegistry();
+    authenticationManager = new CachingJwtAuthenticationManager(jwtAuthenticationProvider, 100, meterRegistry,
+        Clock.systemUTC());
+  }
+
+  @Test
+  void givenSameTokenTwice_whenAuthenticate_thenVerifyOnceAndReuseAuthentication() {
+    when(jwtDecoder.decode("token")).thenReturn(getJwt("token", Instant.now().plusSeconds(3600)));
+
+    Authentication first = authenticationManager.authenticate(getBearer("token", "first-request"));
+    Authentication second = authenticationManager.authenticate(getBearer("token", "second-request"));
+
+    verify(jwtDecoder, times(1)).decode("token");
+    assertNotSame(first, second);
+    assertEquals("test_user", second.getName());
+    assertEquals("second-request", second.getDetails());
+    assertSame(first.getAuthorities().iterator().next(), second.getAuthorities().iterator().next());
+    assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "jwtAuthentications").tag("result", "hit")
+        .functionCounter().count());
+    assertEquals(1, meterRegistry.get(TOKEN_VERIFICATION).timer().count());
+    assertTrue(meterRegistry.get(TOKEN_VERIFICATION_SAVED).counter().count() > 0);
+  }
+
+  @Test
+  void givenTokenWithoutExpiry_whenAuthenticateTwice_thenVerifyEveryTime() {
+    when(jwtDecoder.decode("token")).thenReturn(getJwt("token", null));
+
+    authenticationManager.authenticate(getBearer("token", null));
+    authenticationManager.authenticate(getBearer("token", null));
+
+    verify(jwtDecoder, times(2)).decode("token");
+  }
+
+  @Test
+  void givenInvalidToken_whenAuthenticateTwice_thenDoNotCacheFailure() {
+    when(jwtDecoder.decode("token")).thenThrow(new BadJwtException("Invalid signature"));
+
+    assertThrows(AuthenticationException.class, () -> authenticationManager.authenticate(getBearer("token", null)));
+    assertThrows(AuthenticationException.class, () -> authenticationManager.authenticate(getBearer("token", null)));
+
+    verify(jwtDecoder, times(2)).decode("token");
+  }
+
+  @Test
+  void givenDifferentTokensWithSameGroup_whenAuthenticate_thenShareAuthorityInstance() {
+    when(jwtDecoder.decode("token-a")).thenReturn(getJwt("token-a", Instant.now().plusSeconds(3600)));
+    when(jwtDecoder.decode("token-b")).thenReturn(getJwt("token-b", Instant.now().plusSeconds(3600)));
+
+    Authentication first = authenticationManager.authenticate(getBearer("token-a", null));
+    Authentication second = authenticationManager.authenticate(getBearer("token-b", null));
+
+    assertEquals("ROLE_laundry-manager", first.getAuthorities().iterator().next().getAuthority());
+    assertSame(first.getAuthorities().iterator().next(), second.getAuthorities().iterator().next());
+  }
+
+  private static BearerTokenAuthenticationToken getBearer(String token, Object details) {
+    BearerTokenAuthenticationToken bearer = new BearerTokenAuthenticationToken(token);
+    bearer.setDetails(details);
+    return bearer;
+  }
+
+  private static Jwt getJwt(String token, Instant expiresAt) {
+    return Jwt.withTokenValue(token)
+        .header("alg", "none")
+        .claim("sub", "test_user")
+        .claim("cognito:groups", new ArrayList<>(List.of("laundry-manager")))
+        .expiresAt(expiresAt)
+        .build();
+  }
+}
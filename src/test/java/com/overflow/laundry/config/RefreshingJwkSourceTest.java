@@ -0,0 +1,145 @@
+package com.overflow.laundry.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RefreshingJwkSourceTest {
+
+  private static final String STUB_JWKS = "classpath:jwks/stub-jwks.json";
+  private static final String STUB_KEY_ID = "laundry-test-key";
+
+  @TempDir
+  Path temporaryDirectory;
+
+  private HttpServer jwksServer;
+  private final AtomicInteger jwksRequests = new AtomicInteger();
+  private final AtomicReference<String> servedJwks = new AtomicReference<>();
+  private RefreshingJwkSource jwkSource;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    jwksServer.createContext("/jwks.json", exchange -> {
+      jwksRequests.incrementAndGet();
+      String body = servedJwks.get();
+      byte[] response = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(body == null ? 500 : 200, response.length == 0 ? -1 : response.length);
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(response);
+      }
+    });
+    jwksServer.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (jwkSource != null) {
+      jwkSource.stop();
+    }
+    jwksServer.stop(0);
+  }
+
+  @Test
+  void givenClasspathSnapshot_whenStart_thenServeSnapshotKeysWithoutFetching() {
+    jwkSource = createJwkSource(jwksUri(), STUB_JWKS);
+
+    jwkSource.start();
+
+    assertEquals(List.of(STUB_KEY_ID), keyIds(jwkSource.get(selectorFor(STUB_KEY_ID), null)));
+    assertEquals(0, jwksRequests.get());
+  }
+
+  @Test
+  void givenNoSnapshot_whenStart_thenFetchKeysBeforeServingRequests() {
+    jwkSource = createJwkSource(STUB_JWKS, "");
+
+    jwkSource.start();
+
+    assertEquals(List.of(STUB_KEY_ID), keyIds(jwkSource.get(selectorFor(STUB_KEY_ID), null)));
+  }
+
+  @Test
+  void givenRefreshFails_whenRefresh_thenKeepLastKnownKeys() throws Exception {
+    RSAKey signingKey = generateKey("rotated-key");
+    servedJwks.set(new JWKSet(signingKey).toString());
+    jwkSource = createJwkSource(jwksUri(), "");
+    jwkSource.start();
+
+    servedJwks.set(null);
+    jwkSource.refresh();
+
+    assertEquals(2, jwksRequests.get());
+    assertEquals(List.of("rotated-key"), keyIds(jwkSource.get(selectorFor("rotated-key"), null)));
+  }
+
+  @Test
+  void givenFileSnapshot_whenRefreshSucceeds_thenWriteKeysForNextStart() throws Exception {
+    Path snapshot = temporaryDirectory.resolve("jwks.json");
+    servedJwks.set(new JWKSet(generateKey("fetched-key")).toString());
+    jwkSource = createJwkSource(jwksUri(), "file:" + snapshot);
+
+    jwkSource.start();
+
+    assertTrue(Files.exists(snapshot));
+    assertEquals(List.of("fetched-key"), keyIds(JWKSet.load(snapshot.toFile()).getKeys()));
+  }
+
+  @Test
+  void givenTokenSignedWithUnknownKey_whenGetKeys_thenReturnImmediatelyAndRefreshInBackground() throws Exception {
+    servedJwks.set(new JWKSet(generateKey("new-key")).toString());
+    jwkSource = createJwkSource(jwksUri(), STUB_JWKS);
+    jwkSource.start();
+
+    assertTrue(jwkSource.get(selectorFor("new-key"), null).isEmpty());
+
+    await().atMost(Duration.ofSeconds(5))
+        .until(() -> keyIds(jwkSource.get(selectorFor("new-key"), null)).equals(List.of("new-key")));
+    assertEquals(1, jwksRequests.get());
+  }
+
+  private RefreshingJwkSource createJwkSource(String jwkSetUri, String snapshot) {
+    return new RefreshingJwkSource(new DefaultResourceLoader(), jwkSetUri, snapshot, Duration.ofHours(1),
+        Duration.ofSeconds(1));
+  }
+
+  private String jwksUri() {
+    return "http://localhost:" + jwksServer.getAddress().getPort() + "/jwks.json";
+  }
+
+  private static JWKSelector selectorFor(String keyId) {
+    return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+  }
+
+  private static List<String> keyIds(List<JWK> keys) {
+    return keys.stream().map(JWK::getKeyID).toList();
+  }
+
+  private static RSAKey generateKey(String keyId) throws Exception {
+    return new RSAKeyGenerator(2048).keyID(keyId).generate();
+  }
+}
@@ -0,0 +1,108 @@
+package com.overflow.laundry.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saturates an asynchronous appender with an output that never drains, standing for a stalled stdout,
+ * and checks the logging thread, a request thread in the application, keeps its pace instead of waiting
+ * for the output. The appender is built here rather than loaded from logback-spring.xml, with a small
+ * queue so it fills quickly and the same ratio of discarding threshold to queue size. Warnings are used
+ * since the discarding threshold would drop INFO events before the queue fills up anyway.
+ */
+public class AsyncLoggingSaturationTest {
+
+  private static final int EVENTS = 100_000;
+
+  private final CountDownLatch outputReleased = new CountDownLatch(1);
+  private final LoggerContext loggerContext = new LoggerContext();
+
+  @BeforeEach
+  public void setUp() {
+    // Only the context created by the SLF4J binding gets an MDC adapter, events fail to append without one
+    loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    outputReleased.countDown();
+    loggerContext.stop();
+  }
+
+  @Test
+  void givenStalledOutput_whenLoggingFloods_thenCallerIsNeverBlocked() {
+    AtomicLong written = new AtomicLong();
+    Logger logger = loggerWithAsyncAppender(true, written);
+
+    long worstCallNanos = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < EVENTS; i++) {
+      long callStart = System.nanoTime();
+      logger.warn("Request {} served", i);
+      worstCallNanos = Math.max(worstCallNanos, System.nanoTime() - callStart);
+    }
+    long totalNanos = System.nanoTime() - start;
+
+    assertThat(written.get()).isLessThanOrEqualTo(1);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(totalNanos)).isLessThan(5_000);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(worstCallNanos)).isLessThan(1_000);
+  }
+
+  @Test
+  void givenStalledOutputAndBlockingQueue_whenLoggingFloods_thenCallerWaitsForOutput() throws Exception {
+    AtomicLong written = new AtomicLong();
+    Logger logger = loggerWithAsyncAppender(false, written);
+
+    Thread caller = Thread.ofVirtual().start(() -> {
+      for (int i = 0; i < EVENTS; i++) {
+        logger.warn("Request {} served", i);
+      }
+    });
+
+    assertThat(caller.join(Duration.ofMillis(500))).isFalse();
+    assertThat(written.get()).isEqualTo(1);
+  }
+
+  private Logger loggerWithAsyncAppender(boolean neverBlock, AtomicLong written) {
+    AppenderBase<ILoggingEvent> stalledOutput = new AppenderBase<>() {
+      @Override
+      protected void append(ILoggingEvent event) {
+        written.incrementAndGet();
+        try {
+          outputReleased.await();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    stalledOutput.setContext(loggerContext);
+    stalledOutput.start();
+
+    AsyncAppender asyncAppender = new AsyncAppender();
+    asyncAppender.setContext(loggerContext);
+    asyncAppender.setQueueSize(256);
+    asyncAppender.setDiscardingThreshold(256 / 5);
+    asyncAppender.setNeverBlock(neverBlock);
+    asyncAppender.setMaxFlushTime(0);
+    asyncAppender.addAppender(stalledOutput);
+    asyncAppender.start();
+
+    Logger logger = loggerContext.getLogger("com.overflow.laundry");
+    logger.addAppender(asyncAppender);
+    return logger;
+  }
+}
@@ -0,0 +1,67 @@
+package com.overflow.laundry.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CategorySamplingFilterTest {
+
+  private LoggerContext loggerContext;
+  private ListAppender<ILoggingEvent> appender;
+
+  @BeforeEach
+  public void setUp() {
+    loggerContext = new LoggerContext();
+    CategorySamplingFilter filter = new CategorySamplingFilter();
+    filter.setContext(loggerContext);
+    filter.setCategory("org.springframework.security");
+    filter.setInterval(Duration.buildByMinutes(1));
+    filter.setLevel("DEBUG");
+    filter.start();
+    loggerContext.addTurboFilter(filter);
+
+    appender = new ListAppender<>();
+    appender.setContext(loggerContext);
+    appender.start();
+    Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.TRACE);
+    root.addAppender(appender);
+  }
+
+  @Test
+  void givenBurstOfDebugEventsInCategory_whenLogged_thenKeepOnePerInterval() {
+    Logger logger = loggerContext.getLogger("org.springframework.security.web.FilterChainProxy");
+    for (int i = 0; i < 100; i++) {
+      logger.debug("Securing GET /machines/{}", i);
+    }
+
+    assertEquals(1, appender.list.size());
+  }
+
+  @Test
+  void givenWarningsInCategory_whenLogged_thenKeepAll() {
+    Logger logger = loggerContext.getLogger("org.springframework.security.web.FilterChainProxy");
+    for (int i = 0; i < 10; i++) {
+      logger.warn("Access denied");
+    }
+
+    assertEquals(10, appender.list.size());
+  }
+
+  @Test
+  void givenEventsOutsideCategory_whenLogged_thenKeepAll() {
+    Logger logger = loggerContext.getLogger("org.springframework.securityextension.Other");
+    for (int i = 0; i < 10; i++) {
+      logger.debug("Unrelated");
+    }
+
+    assertEquals(10, appender.list.size());
+  }
+}
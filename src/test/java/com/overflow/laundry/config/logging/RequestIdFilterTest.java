@@ -0,0 +1,56 @@
+package com.overflow.laundry.config.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RequestIdFilterTest {
+
+  private final RequestIdFilter requestIdFilter = new RequestIdFilter();
+
+  @Test
+  void givenRequestWithoutId_whenFiltered_thenGenerateIdForLogsAndResponse() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<String> loggedRequestId = new AtomicReference<>();
+
+    requestIdFilter.doFilter(new MockHttpServletRequest(), response,
+        (req, res) -> loggedRequestId.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+    assertNotNull(loggedRequestId.get());
+    assertEquals(loggedRequestId.get(), response.getHeader(RequestIdFilter.HEADER));
+    assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+  }
+
+  @Test
+  void givenRequestWithId_whenFiltered_thenKeepIt() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(RequestIdFilter.HEADER, "kiosk-42.reboot_1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<String> loggedRequestId = new AtomicReference<>();
+
+    requestIdFilter.doFilter(request, response, (req, res) -> loggedRequestId.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+    assertEquals("kiosk-42.reboot_1", loggedRequestId.get());
+    assertEquals("kiosk-42.reboot_1", response.getHeader(RequestIdFilter.HEADER));
+  }
+
+  @Test
+  void givenRequestWithUnsafeId_whenFiltered_thenReplaceIt() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(RequestIdFilter.HEADER, "forged\n{\"level\":\"ERROR\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    requestIdFilter.doFilter(request, response, (req, res) -> {
+    });
+
+    assertNotEquals("forged\n{\"level\":\"ERROR\"}", response.getHeader(RequestIdFilter.HEADER));
+  }
+}
@@ -0,0 +1,81 @@
+package com.overflow.laundry.config.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.Context;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DropGlobalIdentifierUniqueMigrationTest {
+
+  private final DropGlobalIdentifierUniqueMigration migration = new DropGlobalIdentifierUniqueMigration();
+  private Connection connection;
+  private Context context;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:drop-global-identifier-unique;DB_CLOSE_DELAY=-1");
+    connection = h2.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE machine (id BIGINT PRIMARY KEY, condominium_id BIGINT, "
+          + "identifier VARCHAR(255), "
+          + "CONSTRAINT uk_machine_condominium_identifier UNIQUE (condominium_id, identifier))");
+    }
+    context = mock(Context.class);
+    when(context.getConnection()).thenReturn(connection);
+  }
+
+  @AfterEach
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE machine");
+    }
+    connection.close();
+  }
+
+  @Test
+  void givenUniqueConstraintWithGeneratedName_whenMigrateIsCalled_thenAllowIdentifierInTwoCondominiums()
+      throws SQLException {
+    execute("ALTER TABLE machine ADD CONSTRAINT \"UKnd8svlbjxyyx3agtqb8ab4ymw\" UNIQUE (identifier)");
+
+    migration.migrate(context);
+
+    execute("INSERT INTO machine (id, condominium_id, identifier) VALUES (1, 1, 'W1')");
+    assertDoesNotThrow(() -> execute("INSERT INTO machine (id, condominium_id, identifier) VALUES (2, 2, 'W1')"));
+    assertThrows(SQLException.class,
+        () -> execute("INSERT INTO machine (id, condominium_id, identifier) VALUES (3, 1, 'W1')"));
+  }
+
+  @Test
+  void givenNoGlobalUniqueConstraint_whenMigrateIsCalled_thenKeepCompositeConstraint() throws SQLException {
+    migration.migrate(context);
+
+    execute("INSERT INTO machine (id, condominium_id, identifier) VALUES (1, 1, 'W1')");
+    assertThrows(SQLException.class,
+        () -> execute("INSERT INTO machine (id, condominium_id, identifier) VALUES (2, 1, 'W1')"));
+  }
+
+  @Test
+  void givenUniqueIndexOnIdentifier_whenMigrateIsCalled_thenFailMigration() throws SQLException {
+    execute("CREATE UNIQUE INDEX ux_machine_identifier ON machine (identifier)");
+
+    assertThrows(FlywayException.class, () -> migration.migrate(context));
+  }
+
+  private void execute(String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+}
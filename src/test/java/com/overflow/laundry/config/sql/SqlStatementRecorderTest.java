@@ -0,0 +1,66 @@
+package com.overflow.laundry.config.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlStatementRecorderTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+  private final SqlStatementRecorder recorder = new SqlStatementRecorder(Duration.ofMillis(100), 2,
+      Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void givenMoreStatementsThanTopSize_whenSlowest_thenKeepOnlyTheSlowestInDescendingOrder() {
+    recorder.record("select 10", millis(10), 1);
+    recorder.record("select 30", millis(30), 3);
+    recorder.record("select 5", millis(5), 0);
+    recorder.record("select 20", millis(20), 2);
+
+    List<SlowQuery> slowest = recorder.slowest();
+
+    assertEquals(List.of("select 30", "select 20"), slowest.stream().map(SlowQuery::sql).toList());
+    assertEquals(30d, slowest.get(0).durationMillis());
+    assertEquals(3, slowest.get(0).rows());
+    assertEquals(NOW, slowest.get(0).executedAt());
+  }
+
+  @Test
+  void givenStatementOutsideService_whenRecord_thenKeepWithoutOrigin() {
+    recorder.record("select 150", millis(150), 4);
+
+    assertEquals(null, recorder.slowest().get(0).origin());
+  }
+
+  @Test
+  void givenRecordedStatements_whenReset_thenStartFromAnEmptyTable() {
+    recorder.record("select 30", millis(30), 3);
+    recorder.record("select 20", millis(20), 2);
+
+    recorder.reset();
+    recorder.record("select 1", millis(1), 1);
+
+    assertEquals(List.of("select 1"), recorder.slowest().stream().map(SlowQuery::sql).toList());
+  }
+
+  @Test
+  void givenEmptyTopSize_whenRecord_thenKeepNothing() {
+    SqlStatementRecorder logOnlyRecorder = new SqlStatementRecorder(Duration.ZERO, 0, Clock.systemUTC());
+
+    logOnlyRecorder.record("select 30", millis(30), 3);
+
+    assertTrue(logOnlyRecorder.slowest().isEmpty());
+  }
+
+  private static long millis(long millis) {
+    return Duration.ofMillis(millis).toNanos();
+  }
+}
@@ -0,0 +1,131 @@
+package com.overflow.laundry.config.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TracingDataSourceTest {
+
+  private final SqlStatementRecorder recorder = new SqlStatementRecorder(Duration.ofMinutes(1), 10,
+      Clock.systemUTC());
+  private TracingDataSource dataSource;
+  private Connection connection;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:tracing-data-source;DB_CLOSE_DELAY=-1");
+    dataSource = new TracingDataSource(h2, recorder);
+    connection = dataSource.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+      statement.executeUpdate("INSERT INTO item SELECT x, 'item-' || x FROM SYSTEM_RANGE(1, 5) AS r(x)");
+    }
+    recorder.reset();
+  }
+
+  @AfterEach
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE item");
+    }
+    connection.close();
+  }
+
+  @Test
+  void givenPreparedQuery_whenResultSetIsRead_thenRecordFetchedRowsOnClose() throws SQLException {
+    String sql = "SELECT name FROM item WHERE id > ?";
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, 2);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          assertTrue(resultSet.getString(1).startsWith("item-"));
+        }
+        assertTrue(recorder.slowest().isEmpty());
+      }
+    }
+
+    List<SlowQuery> slowest = recorder.slowest();
+    assertEquals(1, slowest.size());
+    assertEquals(sql, slowest.get(0).sql());
+    assertEquals(3, slowest.get(0).rows());
+    assertTrue(slowest.get(0).durationMillis() > 0);
+  }
+
+  @Test
+  void givenResultSetLeftOpen_whenStatementIsClosed_thenStillRecordQuery() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      ResultSet resultSet = statement.executeQuery("SELECT id FROM item");
+      resultSet.next();
+    }
+
+    assertEquals(1, recorder.slowest().get(0).rows());
+  }
+
+  @Test
+  void givenUpdateAndBatch_whenExecuted_thenRecordAffectedRows() throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("UPDATE item SET name = ? WHERE id = ?")) {
+      statement.setString(1, "renamed");
+      statement.setLong(2, 1);
+      statement.addBatch();
+      statement.setString(1, "renamed");
+      statement.setLong(2, 2);
+      statement.addBatch();
+      statement.executeBatch();
+    }
+    try (Statement statement = connection.createStatement()) {
+      statement.executeUpdate("DELETE FROM item WHERE id > 3");
+    }
+
+    List<String> recorded = recorder.slowest().stream().map(query -> query.sql() + "=" + query.rows()).toList();
+    assertTrue(recorded.contains("2 x UPDATE item SET name = ? WHERE id = ?=2"), recorded::toString);
+    assertTrue(recorded.contains("DELETE FROM item WHERE id > 3=2"), recorded::toString);
+  }
+
+  @Test
+  void givenDriverWithoutLargeUpdateCount_whenUpdateIsExecuted_thenRecordIntUpdateCount() throws SQLException {
+    DataSource target = mock(DataSource.class);
+    Connection targetConnection = mock(Connection.class);
+    Statement targetStatement = mock(Statement.class);
+    when(target.getConnection()).thenReturn(targetConnection);
+    when(targetConnection.createStatement()).thenReturn(targetStatement);
+    when(targetStatement.execute("DELETE FROM item")).thenReturn(false);
+    when(targetStatement.getLargeUpdateCount()).thenThrow(new SQLFeatureNotSupportedException());
+    when(targetStatement.getUpdateCount()).thenReturn(4);
+
+    try (Connection tracedConnection = new TracingDataSource(target, recorder).getConnection();
+         Statement statement = tracedConnection.createStatement()) {
+      assertFalse(statement.execute("DELETE FROM item"));
+    }
+
+    assertEquals(4, recorder.slowest().get(0).rows());
+  }
+
+  @Test
+  void givenTracedStatements_whenCompared_thenUseProxyIdentity() throws SQLException {
+    try (Statement first = connection.createStatement(); Statement second = connection.createStatement()) {
+      assertEquals(first, first);
+      assertNotEquals(first, second);
+      assertFalse(first.isClosed());
+    }
+  }
+}
@@ -2,10 +2,13 @@ package com.overflow.laundry.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.overflow.laundry.exception.CondominiumNotFoundException;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
 import com.overflow.laundry.model.dto.CondominiumRequestDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
 import com.overflow.laundry.service.CondominiumService;
+import com.overflow.laundry.service.MachineService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,7 +33,10 @@ import static com.overflow.laundry.constant.ObjectValidatorErrors.CONDOMINIUM_CO
 import static com.overflow.laundry.constant.ObjectValidatorErrors.CONDOMINIUM_EMAIL_FORMAT_NOT_VALID;
 import static com.overflow.laundry.constant.ObjectValidatorErrors.CONDOMINIUM_EMAIL_NOT_EMPTY_NULL;
 import static com.overflow.laundry.constant.ObjectValidatorErrors.CONDOMINIUM_NAME_NOT_EMPTY_NULL;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.LISTING_MODES_EXCLUSIVE;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_ID_EMPTY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -54,6 +60,9 @@ public class CondominiumControllerTest {
   @MockitoBean
   private CondominiumService condominiumService;
 
+  @MockitoBean
+  private MachineService machineService;
+
   @BeforeEach
   void setUpTestToken() {
     mockTestJwtToken();
@@ -219,6 +228,55 @@ public class CondominiumControllerTest {
         .andExpect(jsonPath("$.data.first").value(true));
   }
 
+  @Test
+  void givenCondominiumId_whenGetCondominiumMachinesIsCalled_thenReturnMachinesSortedByIdentifier() throws Exception {
+    CondominiumMachineResponseDto machine = CondominiumMachineResponseDto.builder()
+        .id(1L).identifier("A-01").type("Washer").version(0L).build();
+    when(machineService.getMachinesByCondominium(eq(1L), eq(new PaginationRequestDto(1, 10, "identifier", "ASC"))))
+        .thenReturn(getMockPaginationResponseDto(List.of(machine)));
+
+    mockMvc.perform(get("/condominiums/1/machines")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].identifier").value("A-01"))
+        .andExpect(jsonPath("$.data.content[0].type").value("Washer"))
+        .andExpect(jsonPath("$.data.content[0].condominium").doesNotExist());
+  }
+
+  @Test
+  void givenMissingCondominium_whenGetCondominiumMachinesIsCalled_thenReturnNotFound() throws Exception {
+    when(machineService.getMachinesByCondominium(eq(1L), any()))
+        .thenThrow(new CondominiumNotFoundException(CONDOMINIUM_NOT_FOUND.label));
+
+    mockMvc.perform(get("/condominiums/1/machines")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void givenIdsAndCursorCombined_whenGetAllCondominiumsIsCalled_thenReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/condominiums?ids=1&after=")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.data.details").value(LISTING_MODES_EXCLUSIVE));
+  }
+
+  @Test
+  void givenEmptyCondominiumId_whenGetCondominiumsByIdsIsCalled_thenReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/condominiums?ids=1,,2")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.data.details").value("Parameter 'ids' " + MULTI_GET_ID_EMPTY));
+  }
+
   private static <T> PaginationResponseDto<T> getMockPaginationResponseDto(List<T> mockCondominiumResponseDto) {
     return PaginationResponseDto
         .<T>builder()
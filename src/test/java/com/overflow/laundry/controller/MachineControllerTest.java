@@ -4,11 +4,20 @@ package com.overflow.laundry.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.overflow.laundry.exception.MachineIdentifierAlreadyInUseException;
 import com.overflow.laundry.exception.MachineNotFoundException;
+import com.overflow.laundry.exception.MachineVersionConflictException;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchItemResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.service.MachineService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -24,10 +34,20 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static com.overflow.laundry.constant.ObjectValidatorErrors.LISTING_MODES_EXCLUSIVE;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_ID_EMPTY;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_MAX_SIZE;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MULTI_GET_SIZE_INVALID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -35,6 +55,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -258,6 +279,79 @@ public class MachineControllerTest {
         .andExpect(status().isNoContent());
   }
 
+  @Test
+  void givenMachineIds_whenMachinesAreDeleted_thenReturnDeletedCount() throws Exception {
+    MachineBatchDeleteResponseDto deleteResponse = MachineBatchDeleteResponseDto.builder()
+        .requestedCount(3)
+        .deletedCount(2)
+        .build();
+    when(machineService.deleteMachines(Set.of(1L, 2L, 3L))).thenReturn(deleteResponse);
+
+    mockMvc.perform(delete("/machines")
+            .param("ids", "1,2,3")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.requestedCount").value(3))
+        .andExpect(jsonPath("$.data.deletedCount").value(2));
+  }
+
+  @Test
+  void givenNoMachineIds_whenMachinesAreDeleted_thenReturnBadRequest() throws Exception {
+    mockMvc.perform(delete("/machines")
+            .param("ids", "")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void givenMachineIds_whenGetMachinesByIds_thenReturnFoundAndMissingIds() throws Exception {
+    MultiGetResponseDto<MachineResponseDto> machines = MultiGetResponseDto.<MachineResponseDto>builder()
+        .content(List.of(getMachineResponseDto(1L, "1", getMockCondominium(), "Washer")))
+        .requestedCount(2)
+        .missingIds(List.of(2L))
+        .build();
+    when(machineService.getMachinesByIds(Set.of(1L, 2L))).thenReturn(machines);
+
+    mockMvc.perform(get("/machines")
+            .param("ids", "1,2")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].id").value(1))
+        .andExpect(jsonPath("$.data.requestedCount").value(2))
+        .andExpect(jsonPath("$.data.missingIds[0]").value(2));
+  }
+
+  @Test
+  void givenTooManyMachineIds_whenGetMachinesByIds_thenReturnBadRequest() throws Exception {
+    String ids = LongStream.rangeClosed(1, MULTI_GET_MAX_SIZE + 1).mapToObj(Long::toString)
+        .collect(Collectors.joining(","));
+
+    mockMvc.perform(get("/machines")
+            .param("ids", ids)
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.data.details").value("Parameter 'ids' " + MULTI_GET_SIZE_INVALID));
+  }
+
+  @Test
+  void givenEmptyMachineId_whenGetMachinesByIds_thenReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/machines")
+            .param("ids", "1,,2")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.data.details").value("Parameter 'ids' " + MULTI_GET_ID_EMPTY));
+  }
+
   @Test
   void givenDefaultPagination_whenGetAllMachinesIsCalled_thenReturnEmptyList() throws Exception {
 
@@ -352,6 +446,82 @@ public class MachineControllerTest {
         .andExpect(jsonPath("$.timestamp").exists());
   }
 
+  @Test
+  void givenEmptyCursor_whenGetAllMachinesIsCalled_thenReturnCursorPage() throws Exception {
+    CursorPaginationResponseDto<MachineResponseDto> mockCursorResponse = CursorPaginationResponseDto
+        .<MachineResponseDto>builder()
+        .content(List.of(getMachineResponseDto(1L, "1", getMockCondominium(), "Washer")))
+        .pageSize(1)
+        .nextCursor("eyJpZCI6IjEifQ")
+        .empty(false)
+        .last(false)
+        .build();
+
+    when(machineService.getMachinesByCursor(new CursorPaginationRequestDto(null, 1, "id", "ASC")))
+        .thenReturn(mockCursorResponse);
+
+    mockMvc.perform(get("/machines?after=&size=1&sortBy=id&direction=ASC")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].id").value(1))
+        .andExpect(jsonPath("$.data.nextCursor").value("eyJpZCI6IjEifQ"))
+        .andExpect(jsonPath("$.data.last").value(false))
+        .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+  }
+
+  @Test
+  void givenSearchFilters_whenSearchMachinesIsCalled_thenReturnMatchingPage() throws Exception {
+    when(machineService.searchMachines(new MachineSearchRequestDto("Washer", 1L, "1"),
+        new PaginationRequestDto(1, 10, "identifier", "ASC"))).thenReturn(getMachineDtoPaginationResponseDto());
+
+    mockMvc.perform(get("/machines/search?type=Washer&condominiumId=1&identifierPrefix=1"
+                + "&sortBy=identifier&direction=ASC")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].identifier").value("1"))
+        .andExpect(jsonPath("$.data.totalElements").value(2));
+  }
+
+  @Test
+  void givenWithTotalFalse_whenGetAllMachinesIsCalled_thenReturnSliceWithoutTotals() throws Exception {
+    SlicePaginationResponseDto<MachineResponseDto> mockSliceResponse = SlicePaginationResponseDto
+        .<MachineResponseDto>builder()
+        .content(List.of(getMachineResponseDto(1L, "1", getMockCondominium(), "Washer")))
+        .pageSize(1)
+        .pageNumber(1)
+        .empty(false)
+        .last(false)
+        .first(true)
+        .build();
+
+    when(machineService.getMachinesSlice(new PaginationRequestDto(1, 1, "id", "ASC"))).thenReturn(mockSliceResponse);
+
+    mockMvc.perform(get("/machines?withTotal=false&page=1&size=1&sortBy=id&direction=ASC")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].id").value(1))
+        .andExpect(jsonPath("$.data.last").value(false))
+        .andExpect(jsonPath("$.data.totalPages").doesNotExist())
+        .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"ids=1&after=", "ids=1&withTotal=false", "after=&withTotal=false"})
+  void givenListingModesCombined_whenGetAllMachinesIsCalled_thenReturnBadRequest(String query) throws Exception {
+    mockMvc.perform(get("/machines?" + query)
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json"))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.data.details").value(LISTING_MODES_EXCLUSIVE));
+  }
+
   @Test
   void givenNothing_whenCallingMachineEndpoint_thenThrowInternalServerError() throws Exception {
 
@@ -380,6 +550,85 @@ public class MachineControllerTest {
         .andExpect(status().isConflict());
   }
 
+  @Test
+  void givenMachineBatch_whenMachinesAreCreated_thenReturnMultiStatusWithItemResults() throws Exception {
+    MachineBatchResponseDto batchResponse = MachineBatchResponseDto.builder()
+        .items(List.of(
+            MachineBatchItemResponseDto.builder().index(0).created(true)
+                .machine(getMachineResponseDto(1L, "Washer 1", getMockCondominium(), "Washer")).build(),
+            MachineBatchItemResponseDto.builder().index(1).created(false)
+                .details("Machine identifier already in use").build()))
+        .createdCount(1)
+        .failedCount(1)
+        .build();
+    when(machineService.createMachines(anyList())).thenReturn(batchResponse);
+
+    String machinesJson = objectMapper.writeValueAsString(List.of(getMachineRequestDto(), getMachineRequestDto()));
+    mockMvc.perform(post("/machines/batch")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json")
+            .content(machinesJson))
+        .andDo(print())
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.data.createdCount").value(1))
+        .andExpect(jsonPath("$.data.failedCount").value(1))
+        .andExpect(jsonPath("$.data.items[0].machine.id").value(1))
+        .andExpect(jsonPath("$.data.items[1].details").value("Machine identifier already in use"));
+  }
+
+  @Test
+  void givenEmptyMachineBatch_whenMachinesAreCreated_thenReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/machines/batch")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json")
+            .content("[]"))
+        .andDo(print())
+        .andExpect(status().isBadRequest());
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideMachinesDtoWithMissingValues")
+  void givenMachineBatchWithNullValue_whenMachinesAreCreated_thenReturnBadRequest(MachineRequestDto mockMachine)
+      throws Exception {
+    String machinesJson = objectMapper.writeValueAsString(List.of(getMachineRequestDto(), mockMachine));
+    mockMvc.perform(post("/machines/batch")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json")
+            .content(machinesJson))
+        .andDo(print())
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void givenMachines_whenExportMachinesIsCalled_thenStreamNdjson() throws Exception {
+    doAnswer(invocation -> {
+      invocation.<OutputStream>getArgument(0).write("{\"id\":1}\n".getBytes());
+      return null;
+    }).when(machineService).exportMachines(any());
+
+    mockMvc.perform(get("/machines/export")
+            .header("Authorization", "Bearer test_token"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andExpect(content().string("{\"id\":1}\n"));
+  }
+
+  @Test
+  void givenStaleMachineVersion_whenMachineIsUpdated_thenReturnConflict() throws Exception {
+    when(machineService.updateMachine(any(MachineRequestDto.class))).thenThrow(
+        new MachineVersionConflictException("Machine was modified by another request"));
+
+    String machineJson = objectMapper.writeValueAsString(getMachineRequestDto());
+    mockMvc.perform(put("/machines")
+            .header("Authorization", "Bearer test_token")
+            .contentType("application/json")
+            .content(machineJson))
+        .andDo(print())
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.data.details").value("Machine was modified by another request"));
+  }
+
   private static MachineRequestDto getMachineRequestDto() {
     return MachineRequestDto.builder()
         .identifier("Washer 1")
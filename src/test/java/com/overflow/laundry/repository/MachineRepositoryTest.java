@@ -2,15 +2,32 @@ package com.overflow.laundry.repository;
 
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
+import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
+import com.overflow.laundry.repository.specification.MachineSpecifications;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -23,6 +40,9 @@ public class MachineRepositoryTest {
   @Autowired
   private CondominiumRepository condominiumRepository;
 
+  @Autowired
+  private EntityManager entityManager;
+
   private Condominium createAndSaveCondominium() {
     Condominium condominium = new Condominium();
     condominium.setName("Condominium 1");
@@ -35,19 +55,73 @@ public class MachineRepositoryTest {
   private Machine createAndSaveMachine(Condominium condominium) {
     Machine machine = new Machine();
     machine.setIdentifier("Washing Machine");
-    machine.setType("Washer");
+    machine.setType(MachineType.WASHER);
     machine.setCondominium(condominium);
     return machineRepository.save(machine);
   }
 
+  private static MachineResponseDto toResponseDto(Machine machine) {
+    Condominium condominium = machine.getCondominium();
+    return MachineResponseDto.builder()
+        .id(machine.getId())
+        .identifier(machine.getIdentifier())
+        .condominium(CondominiumResponseDto.builder()
+            .id(condominium.getId())
+            .name(condominium.getName())
+            .address(condominium.getAddress())
+            .contactPhone(condominium.getContactPhone())
+            .email(condominium.getEmail())
+            .build())
+        .type(machine.getType().getLabel())
+        .version(0L)
+        .build();
+  }
+
   @Test
   void givenMachineIsSaved_whenFindMachineByIdentifierIsCalled_thenReturnMachine() {
     Condominium condominium = createAndSaveCondominium();
     Machine machine = createAndSaveMachine(condominium);
 
-    Optional<Machine> foundMachine = machineRepository.findMachineByCondominiumIdAndIdentifier(
+    Optional<MachineResponseDto> foundMachine = machineRepository.findMachineByCondominiumIdAndIdentifier(
         "Washing Machine", condominium.getId());
-    assertEquals(Optional.of(machine), foundMachine);
+    assertEquals(Optional.of(toResponseDto(machine)), foundMachine);
+  }
+
+  @Test
+  void givenMachineIsSaved_whenFindDtoByIdIsCalled_thenReturnMachineWithCondominium() {
+    Condominium condominium = createAndSaveCondominium();
+    Machine machine = createAndSaveMachine(condominium);
+
+    assertEquals(Optional.of(toResponseDto(machine)), machineRepository.findDtoById(machine.getId()));
+    assertEquals(Optional.empty(), machineRepository.findDtoById(64984L));
+  }
+
+  @Test
+  void givenMachineWithoutCondominium_whenFindDtosIsCalled_thenReturnMachineWithNullCondominium() {
+    Machine machine = createAndSaveMachine(null);
+    MachineResponseDto expected = new MachineResponseDto(machine.getId(), "Washing Machine", null,
+        MachineType.WASHER.getLabel(), 0L);
+
+    assertEquals(Optional.of(expected), machineRepository.findDtoById(machine.getId()));
+    assertEquals(List.of(expected), machineRepository.findDtosByIds(List.of(machine.getId())));
+  }
+
+  @Test
+  void givenMachineWithoutCondominium_whenSearchMachinesIsCalled_thenReturnMachineWithNullCondominium() {
+    Machine machineWithCondominium = createAndSaveMachine(createAndSaveCondominium());
+    Machine machineWithoutCondominium = createAndSaveMachine(null);
+    Specification<Machine> specification = MachineSpecifications.matching(
+        MachineSearchRequestDto.builder().identifierPrefix("Washing").build());
+
+    Page<MachineResponseDto> firstPage = machineRepository.searchMachines(specification,
+        PageRequest.of(0, 1, Sort.by("id")));
+    Page<MachineResponseDto> secondPage = machineRepository.searchMachines(specification,
+        PageRequest.of(1, 1, Sort.by("id")));
+
+    assertEquals(List.of(toResponseDto(machineWithCondominium)), firstPage.getContent());
+    assertEquals(2, firstPage.getTotalElements());
+    assertEquals(List.of(new MachineResponseDto(machineWithoutCondominium.getId(), "Washing Machine", null,
+        MachineType.WASHER.getLabel(), 0L)), secondPage.getContent());
   }
 
   @Test
@@ -55,14 +129,66 @@ public class MachineRepositoryTest {
     Condominium condominium = createAndSaveCondominium();
     createAndSaveMachine(condominium);
 
-    Optional<Machine> foundMachine = machineRepository.findMachineByCondominiumIdAndIdentifier(
+    Optional<MachineResponseDto> foundMachine = machineRepository.findMachineByCondominiumIdAndIdentifier(
         "Washing Machine", 64984L);
     assertEquals(Optional.empty(), foundMachine);
   }
 
+  @Test
+  void givenMachineIsSaved_whenExistsByIdentifierAndCondominiumIdIsCalled_thenOnlyMatchSameCondominium() {
+    Condominium condominium = createAndSaveCondominium();
+    createAndSaveMachine(condominium);
+
+    assertTrue(machineRepository.existsByIdentifierAndCondominiumId("Washing Machine", condominium.getId()));
+    assertFalse(machineRepository.existsByIdentifierAndCondominiumId("Washing Machine", 64984L));
+  }
+
+  @Test
+  void givenSameIdentifierInTwoCondominiums_whenSaveIsCalled_thenSaveBothMachines() {
+    Machine machine = createAndSaveMachine(createAndSaveCondominium());
+    Machine otherMachine = createAndSaveMachine(createAndSaveCondominium());
+    machineRepository.flush();
+
+    assertNotEquals(machine.getId(), otherMachine.getId());
+    assertEquals(machine.getIdentifier(), otherMachine.getIdentifier());
+  }
+
+  @Test
+  void givenSameIdentifierInSameCondominium_whenSaveIsCalled_thenViolateUniqueConstraint() {
+    Condominium condominium = createAndSaveCondominium();
+    createAndSaveMachine(condominium);
+
+    assertThrows(DataIntegrityViolationException.class, () -> {
+      createAndSaveMachine(condominium);
+      machineRepository.flush();
+    });
+  }
+
+  @Test
+  void givenMachineTypeTable_whenReadIsCalled_thenMatchMachineTypeCodes() {
+    List<String> rows = entityManager.createNativeQuery("SELECT id, name FROM machine_type ORDER BY id", Object[].class)
+        .getResultList().stream()
+        .map(row -> ((Object[]) row)[0] + "=" + ((Object[]) row)[1])
+        .toList();
+    List<String> types = Arrays.stream(MachineType.values())
+        .map(type -> type.getCode() + "=" + type.getLabel())
+        .toList();
+    assertEquals(types, rows);
+  }
+
+  @Test
+  void givenMachineIsSaved_whenFindByIdIsCalled_thenReadTypeFromItsCode() {
+    Condominium condominium = createAndSaveCondominium();
+    Machine machine = createAndSaveMachine(condominium);
+    machineRepository.flush();
+    entityManager.clear();
+
+    assertEquals(MachineType.WASHER, machineRepository.findById(machine.getId()).orElseThrow().getType());
+  }
+
   @Test
   void givenMachineDoesNotExists_whenFindMachineByIdentifierIsCalled_thenReturnEmptyOptional() {
-    Optional<Machine> foundMachine = machineRepository.findMachineByCondominiumIdAndIdentifier(
+    Optional<MachineResponseDto> foundMachine = machineRepository.findMachineByCondominiumIdAndIdentifier(
         "Washing Machine", 1L);
     assertEquals(Optional.empty(), foundMachine);
   }
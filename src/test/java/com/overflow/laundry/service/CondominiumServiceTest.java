@@ -4,8 +4,12 @@ import com.overflow.laundry.exception.CondominiumNotFoundException;
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.dto.CondominiumRequestDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.model.mapper.CondominiumMapper;
 import com.overflow.laundry.repository.CondominiumRepository;
 import com.overflow.laundry.service.impl.CondominiumServiceImpl;
@@ -15,17 +19,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,7 +90,7 @@ public class CondominiumServiceTest {
   @Test
   void givenId_whenGetCondominiumById_thenReturnCondominium() {
     Long id = 1L;
-    when(condominiumRepository.findById(id)).thenReturn(Optional.of(getMockCondominiumEntity()));
+    when(condominiumRepository.findDtoById(id)).thenReturn(Optional.of(getMockCondominiumResponseDto()));
     CondominiumResponseDto condominiumResponseDto = condominiumService.getCondominiumById(id);
 
     assertEquals(getMockCondominiumResponseDto(), condominiumResponseDto);
@@ -84,12 +99,23 @@ public class CondominiumServiceTest {
   @Test
   void givenId_whenGetCondominiumById_thenReturnCondominiumNotFoundException() {
     Long id = 1L;
-    when(condominiumRepository.findById(id)).thenReturn(Optional.empty());
+    when(condominiumRepository.findDtoById(id)).thenReturn(Optional.empty());
     assertThrows(CondominiumNotFoundException.class, () -> {
       condominiumService.getCondominiumById(id);
     });
   }
 
+  @Test
+  void givenIds_whenGetCondominiumsByIds_thenReturnFoundAndMissingIds() {
+    when(condominiumRepository.findDtosByIds(List.of(1L, 2L))).thenReturn(List.of(getMockCondominiumResponseDto()));
+
+    MultiGetResponseDto<CondominiumResponseDto> condominiums =
+        condominiumService.getCondominiumsByIds(new LinkedHashSet<>(List.of(1L, 2L)));
+
+    assertEquals(List.of(getMockCondominiumResponseDto()), condominiums.content());
+    assertEquals(List.of(2L), condominiums.missingIds());
+  }
+
   @Test
   void givenDefaultPagination_whenGetAllCondominiumsIsCalled_thenReturnAllMachines() {
 
@@ -99,9 +125,9 @@ public class CondominiumServiceTest {
         .sortBy("id")
         .direction("ASC")
         .build();
-    List<Condominium> condominiumsList = List.of(getMockCondominiumEntity());
+    List<CondominiumResponseDto> condominiumsList = List.of(getMockCondominiumResponseDto());
 
-    when(condominiumRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(condominiumsList));
+    when(condominiumRepository.findAllDtos(any(Pageable.class))).thenReturn(new PageImpl<>(condominiumsList));
     PaginationResponseDto<CondominiumResponseDto> allCondominiums =
         condominiumService.getAllCondominiums(paginationRequestDto);
 
@@ -115,6 +141,46 @@ public class CondominiumServiceTest {
     assertEquals(allCondominiums.content(), List.of(getMockCondominiumResponseDto()));
   }
 
+  @Test
+  void givenPaginationWithoutTotal_whenGetCondominiumsSliceIsCalled_thenReturnPageWithoutCounting() {
+    PaginationRequestDto paginationRequestDto = PaginationRequestDto.builder()
+        .pageNumber(1)
+        .pageSize(1)
+        .sortBy("id")
+        .direction("ASC")
+        .build();
+    Pageable pageable = PageRequest.of(0, 1, Sort.Direction.ASC, "id");
+
+    when(condominiumRepository.findDtoSlice(pageable))
+        .thenReturn(new SliceImpl<>(List.of(getMockCondominiumResponseDto()), pageable, true));
+    SlicePaginationResponseDto<CondominiumResponseDto> condominiums =
+        condominiumService.getCondominiumsSlice(paginationRequestDto);
+
+    assertEquals(List.of(getMockCondominiumResponseDto()), condominiums.content());
+    assertEquals(1, condominiums.pageNumber());
+    assertTrue(condominiums.first());
+    assertFalse(condominiums.last());
+    verify(condominiumRepository, never()).findAllDtos(any(Pageable.class));
+    verify(condominiumRepository, never()).count();
+  }
+
+  @Test
+  void givenNoCursor_whenGetCondominiumsByCursorIsCalled_thenReturnLastWindow() {
+    CursorPaginationRequestDto cursorPagination = new CursorPaginationRequestDto(null, 10, "name", "ASC");
+    Window<Condominium> window = Window.from(List.of(getMockCondominiumEntity()),
+        index -> ScrollPosition.forward(Map.of("name", "Test Condominium", "id", 1L)));
+
+    when(condominiumRepository.findAllBy(ScrollPosition.keyset(), Sort.by(Sort.Direction.ASC, "name"), Limit.of(10)))
+        .thenReturn(window);
+    CursorPaginationResponseDto<CondominiumResponseDto> condominiums =
+        condominiumService.getCondominiumsByCursor(cursorPagination);
+
+    assertEquals(List.of(getMockCondominiumResponseDto()), condominiums.content());
+    assertFalse(condominiums.empty());
+    assertTrue(condominiums.last());
+    assertNull(condominiums.nextCursor());
+  }
+
   private static CondominiumRequestDto getTestCondominium() {
     return CondominiumRequestDto.builder()
         .name("Test Condominium")
@@ -135,6 +201,6 @@ public class CondominiumServiceTest {
   }
 
   private static Condominium getMockCondominiumEntity() {
-    return new Condominium(1L, "Test Condominium", "123 Test St", "1234567890", "john@john.com", null);
+    return new Condominium(1L, "Test Condominium", "123 Test St", "1234567890", "john@john.com", null, 0L);
   }
 }
@@ -1,37 +1,76 @@
 package com.overflow.laundry.service;
 
+import com.overflow.laundry.exception.CondominiumNotFoundException;
 import com.overflow.laundry.exception.MachineIdentifierAlreadyInUseException;
 import com.overflow.laundry.exception.MachineNotFoundException;
+import com.overflow.laundry.exception.MachineVersionConflictException;
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
+import com.overflow.laundry.model.dto.CondominiumMachineResponseDto;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchDeleteResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchItemResponseDto;
+import com.overflow.laundry.model.dto.MachineBatchResponseDto;
+import com.overflow.laundry.model.dto.MachineExportRowDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
+import com.overflow.laundry.model.dto.MachineSearchRequestDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.model.mapper.CondominiumMapper;
 import com.overflow.laundry.model.mapper.MachineMapper;
 import com.overflow.laundry.repository.CondominiumRepository;
 import com.overflow.laundry.repository.MachineRepository;
 import com.overflow.laundry.service.impl.MachineServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static com.overflow.laundry.constant.CacheNames.MACHINES;
+import static com.overflow.laundry.constant.CacheNames.MACHINES_BY_IDENTIFIER;
+import static com.overflow.laundry.constant.ObjectValidatorErrors.MACHINE_SEARCH_SORT_INVALID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,9 +94,12 @@ public class MachineServiceTest {
   @Mock
   CondominiumMapper condominiumMapper;
 
+  CacheManager cacheManager;
+
   @BeforeEach
   void setUp() {
-    machineService = new MachineServiceImpl(machineRepository, machineMapper, condominiumRepository);
+    cacheManager = new ConcurrentMapCacheManager();
+    machineService = new MachineServiceImpl(machineRepository, machineMapper, condominiumRepository, cacheManager);
   }
 
   @Test
@@ -81,9 +123,8 @@ public class MachineServiceTest {
   @Test
   void givenMachine_whenCreateMachineIsCalled_thenReturnMachineIdentifierAlreadyInUse() {
     MachineRequestDto machineRequestDto = getMachineRequestDto();
-    Machine machine = getMockMachine();
 
-    when(machineRepository.findMachineByCondominiumIdAndIdentifier(any(), any())).thenReturn(Optional.of(machine));
+    when(machineRepository.existsByIdentifierAndCondominiumId(any(), any())).thenReturn(true);
     when(condominiumRepository.findById(any())).thenReturn(Optional.of(getMockCondominium()));
 
     MachineIdentifierAlreadyInUseException exception = assertThrows(
@@ -110,11 +151,81 @@ public class MachineServiceTest {
   }
 
   @Test
-  void givenMachineExists_whenGetMachineByIdIsCalled_thenReturnMachineDto() {
-    Machine mockMachine = getMockMachine();
+  void givenMachineWithVersion_whenCreateMachineIsCalled_thenThrowIllegalArgumentException() {
+    MachineRequestDto machineRequestDto = MachineRequestDto.builder()
+        .identifier("Washing Machine")
+        .condominiumId(1L)
+        .type("Washer")
+        .version(3L)
+        .build();
+
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () -> {
+          machineService.createMachine(machineRequestDto);
+        });
+    assertEquals("Machine version should NOT be provided for creation", exception.getMessage());
+    verify(machineRepository, never()).save(any());
+  }
 
+  @Test
+  void givenMachineBatch_whenCreateMachinesIsCalled_thenCreateValidMachinesAndReportFailures() {
+    List<MachineRequestDto> machineRequestDtos = List.of(
+        MachineRequestDto.builder().identifier("Dryer 1").condominiumId(1L).type("Dryer").build(),
+        MachineRequestDto.builder().id(7L).identifier("Dryer 2").condominiumId(1L).type("Dryer").build(),
+        MachineRequestDto.builder().identifier("Dryer 3").condominiumId(2L).type("Dryer").build(),
+        getMachineRequestDto(),
+        MachineRequestDto.builder().identifier("Dryer 1").condominiumId(1L).type("Dryer").build(),
+        MachineRequestDto.builder().identifier("Dryer 4").condominiumId(1L).type("Dryer").version(0L).build());
+
+    when(condominiumRepository.findAllById(any())).thenReturn(List.of(getMockCondominium()));
+    when(machineRepository.findMachinesByCondominiumIdsAndIdentifiers(anyCollection(), anyCollection()))
+        .thenReturn(List.of(getMockMachine()));
+    when(machineRepository.saveAll(anyList())).thenReturn(
+        List.of(new Machine(2L, "Dryer 1", MachineType.DRYER, getMockCondominium(), 0L)));
     when(condominiumMapper.toDto(any())).thenReturn(getMockCondominiumDto());
-    when(machineRepository.findById(any())).thenReturn(Optional.of(mockMachine));
+
+    MachineBatchResponseDto result = machineService.createMachines(machineRequestDtos);
+
+    assertEquals(1, result.createdCount());
+    assertEquals(5, result.failedCount());
+    List<MachineBatchItemResponseDto> items = result.items();
+    assertTrue(items.get(0).created());
+    assertEquals(2L, items.get(0).machine().id());
+    assertEquals("Machine ID should NOT be provided for creation", items.get(1).details());
+    assertEquals("Condominium not found", items.get(2).details());
+    assertEquals("Machine identifier already in use", items.get(3).details());
+    assertEquals("Machine identifier already in use", items.get(4).details());
+    assertEquals("Machine version should NOT be provided for creation", items.get(5).details());
+    verify(machineRepository, times(1)).saveAll(anyList());
+    verify(condominiumRepository, never()).findById(any());
+  }
+
+  @Test
+  void givenMachines_whenExportMachinesIsCalled_thenWriteOneJsonLinePerMachine() throws IOException {
+    MachineExportRowDto machineWithCondominium = MachineExportRowDto.builder()
+        .id(1L).identifier("Washing Machine").type("Washer")
+        .condominiumId(1L).condominiumName("Condominium 1").condominiumAddress("123 Main St")
+        .condominiumContactPhone("123456789").condominiumEmail("test@test.com")
+        .build();
+    MachineExportRowDto machineWithoutCondominium = MachineExportRowDto.builder()
+        .id(2L).identifier("Dryer \"2\"").type("Dryer")
+        .build();
+    when(machineRepository.streamAllForExport()).thenReturn(Stream.of(machineWithCondominium,
+        machineWithoutCondominium));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    machineService.exportMachines(outputStream);
+
+    assertEquals("{\"id\":1,\"identifier\":\"Washing Machine\",\"condominium\":{\"id\":1,"
+            + "\"name\":\"Condominium 1\",\"address\":\"123 Main St\",\"contactPhone\":\"123456789\","
+            + "\"email\":\"test@test.com\"},\"type\":\"Washer\"}\n"
+            + "{\"id\":2,\"identifier\":\"Dryer \\\"2\\\"\",\"condominium\":null,\"type\":\"Dryer\"}\n",
+        outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void givenMachineExists_whenGetMachineByIdIsCalled_thenReturnMachineDto() {
+    when(machineRepository.findDtoById(any())).thenReturn(Optional.of(getMachineResponseDto()));
 
     MachineResponseDto mockMachineResponseDto = getMachineResponseDto();
     MachineResponseDto machineFound = machineService.getMachineById(1L);
@@ -124,7 +235,7 @@ public class MachineServiceTest {
 
   @Test
   void givenMachineDoesNotExist_whenGetMachineByIdIsCalled_thenThrowMachineNotFoundException() {
-    when(machineRepository.findById(any())).thenReturn(Optional.empty());
+    when(machineRepository.findDtoById(any())).thenReturn(Optional.empty());
     MachineNotFoundException exception = assertThrows(MachineNotFoundException.class, () -> {
       machineService.getMachineById(1L);
     });
@@ -134,17 +245,16 @@ public class MachineServiceTest {
 
   @Test
   void givenMachine_whenUpdateMachineIsCalled_thenUpdateMachine() {
-    Machine machine = getMockMachine();
-    when(machineRepository.existsById(any())).thenReturn(true);
     when(condominiumMapper.toDto(any())).thenReturn(getMockCondominiumDto());
-    when(condominiumRepository.findById(any())).thenReturn(Optional.of(getMockCondominium()));
-    when(machineRepository.save(any(Machine.class))).thenReturn(machine);
+    when(condominiumRepository.getReferenceById(any())).thenReturn(getMockCondominium());
+    when(machineRepository.updateIfVersionMatches(any(), any(), any(), any(), any())).thenReturn(1);
 
     MachineRequestDto machineRequestDto = MachineRequestDto.builder()
         .id(1L)
         .identifier("Washing Machine")
         .condominiumId(1L)
         .type("Washer")
+        .version(0L)
         .build();
     MachineResponseDto machineUpdated = machineService.updateMachine(machineRequestDto);
 
@@ -152,13 +262,74 @@ public class MachineServiceTest {
     assertEquals(machineRequestDto.identifier(), machineUpdated.identifier());
     assertEquals(machineRequestDto.condominiumId(), machineUpdated.condominium().id());
     assertEquals(machineRequestDto.type(), machineUpdated.type());
+    assertEquals(1L, machineUpdated.version());
+    verify(machineRepository, never()).existsById(any());
+    verify(machineRepository, never()).save(any());
+    verify(condominiumRepository, never()).findById(any());
+  }
+
+  @Test
+  void givenStaleVersion_whenUpdateMachineIsCalled_thenThrowMachineVersionConflictException() {
+    when(condominiumRepository.getReferenceById(any())).thenReturn(getMockCondominium());
+    when(machineRepository.updateIfVersionMatches(any(), any(), any(), any(), any())).thenReturn(0);
+    when(machineRepository.existsById(any())).thenReturn(true);
+
+    MachineVersionConflictException exception = assertThrows(MachineVersionConflictException.class, () -> {
+      machineService.updateMachine(getMachineUpdateRequestDto());
+    });
+    assertEquals("Machine was modified by another request", exception.getMessage());
+  }
+
+  @Test
+  void givenNoVersion_whenUpdateMachineIsCalled_thenThrowIllegalArgumentException() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+      machineService.updateMachine(getMachineRequestDto());
+    });
+    verify(machineRepository, never()).updateIfVersionMatches(any(), any(), any(), any(), any());
+    assertEquals("Machine version must be provided for update", exception.getMessage());
+  }
+
+  @Test
+  void givenIdentifierUsedInCondominium_whenUpdateMachineIsCalled_thenThrowMachineIdentifierAlreadyInUse() {
+    when(condominiumRepository.getReferenceById(any())).thenReturn(getMockCondominium());
+    when(machineRepository.updateIfVersionMatches(any(), any(), any(), any(), any())).thenThrow(
+        getDataIntegrityViolation("PUBLIC.UK_MACHINE_CONDOMINIUM_IDENTIFIER"));
+
+    assertThrows(MachineIdentifierAlreadyInUseException.class, () -> {
+      machineService.updateMachine(getMachineUpdateRequestDto());
+    });
+  }
+
+  @Test
+  void givenCondominiumDoesNotExist_whenUpdateMachineIsCalled_thenThrowCondominiumNotFoundException() {
+    when(condominiumRepository.getReferenceById(any())).thenReturn(getMockCondominium());
+    when(machineRepository.updateIfVersionMatches(any(), any(), any(), any(), any())).thenThrow(
+        getDataIntegrityViolation("PUBLIC.FKNKVC3HIG4K7UM8JUB3NRV4GVG"));
+
+    assertThrows(CondominiumNotFoundException.class, () -> {
+      machineService.updateMachine(getMachineUpdateRequestDto());
+    });
+  }
+
+  @Test
+  void givenOtherConstraintViolated_whenUpdateMachineIsCalled_thenRethrowDataIntegrityViolation() {
+    DataIntegrityViolationException violation = getDataIntegrityViolation("PUBLIC.FK_MACHINE_TYPE");
+    when(condominiumRepository.getReferenceById(any())).thenReturn(getMockCondominium());
+    when(machineRepository.updateIfVersionMatches(any(), any(), any(), any(), any())).thenThrow(violation);
+
+    DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> {
+      machineService.updateMachine(getMachineUpdateRequestDto());
+    });
+    assertSame(violation, exception);
   }
 
   @Test
   void givenMachineDoesNotExist_whenUpdateMachineIsCalled_thenThrowMachineNotFoundException() {
+    when(condominiumRepository.getReferenceById(any())).thenReturn(getMockCondominium());
+    when(machineRepository.updateIfVersionMatches(any(), any(), any(), any(), any())).thenReturn(0);
     when(machineRepository.existsById(any())).thenReturn(false);
     MachineNotFoundException exception = assertThrows(MachineNotFoundException.class, () -> {
-      machineService.updateMachine(getMachineRequestDto());
+      machineService.updateMachine(getMachineUpdateRequestDto());
     });
     verify(machineRepository, never()).save(any());
     assertEquals("Machine not found", exception.getMessage());
@@ -167,26 +338,42 @@ public class MachineServiceTest {
   @Test
   void givenMachine_whenDeleteMachineIsCalled_thenShouldDeleteMachine() {
     Long id = 1L;
-    when(machineRepository.existsById(any())).thenReturn(true);
+    when(machineRepository.deleteMachineById(id)).thenReturn(1);
     machineService.deleteMachine(id);
-    verify(machineRepository, times(1)).deleteById(id);
+    verify(machineRepository, times(1)).deleteMachineById(id);
+    verify(machineRepository, never()).existsById(any());
   }
 
   @Test
   void givenMachineDoesNotExist_whenDeleteMachineIsCalled_thenThrowMachineNotFoundException() {
     Long id = 1L;
-    when(machineRepository.existsById(any())).thenReturn(false);
+    when(machineRepository.deleteMachineById(id)).thenReturn(0);
     MachineNotFoundException exception = assertThrows(MachineNotFoundException.class, () -> {
       machineService.deleteMachine(id);
     });
-    verify(machineRepository, never()).deleteById(id);
     assertEquals("Machine not found", exception.getMessage());
   }
 
+  @Test
+  void givenSomeMachinesExist_whenDeleteMachinesIsCalled_thenDeleteInOneStatementAndEvictCaches() {
+    Set<Long> ids = Set.of(1L, 2L);
+    when(machineRepository.deleteMachinesByIds(ids)).thenReturn(1);
+    cacheManager.getCache(MACHINES).put(1L, getMachineResponseDto());
+    cacheManager.getCache(MACHINES).put(3L, getMachineResponseDto());
+
+    MachineBatchDeleteResponseDto result = machineService.deleteMachines(ids);
+
+    assertEquals(2, result.requestedCount());
+    assertEquals(1, result.deletedCount());
+    verify(machineRepository, times(1)).deleteMachinesByIds(ids);
+    assertNull(cacheManager.getCache(MACHINES).get(1L));
+    assertNotNull(cacheManager.getCache(MACHINES).get(3L));
+  }
+
   @Test
   void givenDefaultPagination_whenGetAllMachinesIsCalled_thenReturnAllMachines() {
 
-    List<Machine> machines = List.of(getMockMachine());
+    List<MachineResponseDto> machines = List.of(getMachineResponseDto());
     PaginationRequestDto defaultPagination = PaginationRequestDto.builder()
         .pageNumber(1)
         .pageSize(10)
@@ -194,8 +381,7 @@ public class MachineServiceTest {
         .direction("DESC")
         .build();
 
-    when(condominiumMapper.toDto(any())).thenReturn(getMockCondominiumDto());
-    when(machineRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(machines));
+    when(machineRepository.findAllDtos(any(Pageable.class))).thenReturn(new PageImpl<>(machines));
     PaginationResponseDto<MachineResponseDto> allMachines = machineService.getAllMachines(defaultPagination);
 
     assertEquals(1, allMachines.totalPages());
@@ -209,18 +395,152 @@ public class MachineServiceTest {
   }
 
   @Test
-  void givenMachineExists_whenGetMachineByIdentifierIsCalled_thenReturnMachineDtoCondominiumAnd() {
-    Machine mockMachine = getMockMachine();
+  void givenPaginationWithoutTotal_whenGetMachinesSliceIsCalled_thenReturnPageWithoutCounting() {
+    PaginationRequestDto pagination = new PaginationRequestDto(2, 1, "id", "ASC");
+    Pageable pageable = PageRequest.of(1, 1, Sort.Direction.ASC, "id");
+
+    when(machineRepository.findDtoSlice(pageable))
+        .thenReturn(new SliceImpl<>(List.of(getMachineResponseDto()), pageable, false));
+    SlicePaginationResponseDto<MachineResponseDto> machines = machineService.getMachinesSlice(pagination);
+
+    assertEquals(List.of(getMachineResponseDto()), machines.content());
+    assertEquals(1, machines.pageSize());
+    assertEquals(2, machines.pageNumber());
+    assertFalse(machines.first());
+    assertTrue(machines.last());
+    verify(machineRepository, never()).findAllDtos(any(Pageable.class));
+    verify(machineRepository, never()).count();
+  }
+
+  @Test
+  void givenCondominiumWithMachines_whenGetMachinesByCondominiumIsCalled_thenReturnProjectedPage() {
+    PaginationRequestDto pagination = new PaginationRequestDto(1, 10, "identifier", "ASC");
+    Pageable pageable = PageRequest.of(0, 10, Sort.Direction.ASC, "identifier");
+    CondominiumMachineResponseDto machine = CondominiumMachineResponseDto.builder()
+        .id(1L).identifier("Washing Machine").type("Washer").version(0L).build();
+
+    when(machineRepository.findMachinesByCondominiumId(1L, pageable))
+        .thenReturn(new PageImpl<>(List.of(machine), pageable, 1));
+    PaginationResponseDto<CondominiumMachineResponseDto> machines = machineService.getMachinesByCondominium(1L,
+        pagination);
+
+    assertEquals(List.of(machine), machines.content());
+    assertEquals(1L, machines.totalElements());
+    verify(condominiumRepository, never()).existsById(any());
+  }
+
+  @Test
+  void givenSearchFilters_whenSearchMachinesIsCalled_thenReturnMatchingPage() {
+    MachineSearchRequestDto search = new MachineSearchRequestDto("Washer", 1L, "Wash");
+    PaginationRequestDto pagination = new PaginationRequestDto(1, 10, "identifier", "ASC");
+    Pageable pageable = PageRequest.of(0, 10, Sort.Direction.ASC, "identifier");
+
+    when(machineRepository.searchMachines(any(), eq(pageable)))
+        .thenReturn(new PageImpl<>(List.of(getMachineResponseDto()), pageable, 1));
+    PaginationResponseDto<MachineResponseDto> machines = machineService.searchMachines(search, pagination);
+
+    assertEquals(List.of(getMachineResponseDto()), machines.content());
+    assertEquals(1L, machines.totalElements());
+  }
+
+  @Test
+  void givenSortByNotIndexedField_whenSearchMachinesIsCalled_thenThrowIllegalArgumentException() {
+    MachineSearchRequestDto search = new MachineSearchRequestDto("Washer", null, null);
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> machineService.searchMachines(search, new PaginationRequestDto(1, 10, "type", "ASC")));
+    assertEquals(MACHINE_SEARCH_SORT_INVALID, exception.getMessage());
+    verify(machineRepository, never()).searchMachines(any(), any());
+  }
+
+  @Test
+  void givenCondominiumDoesNotExist_whenGetMachinesByCondominiumIsCalled_thenThrowCondominiumNotFoundException() {
+    when(machineRepository.findMachinesByCondominiumId(eq(1L), any(Pageable.class))).thenReturn(Page.empty());
+    when(condominiumRepository.existsById(1L)).thenReturn(false);
+
+    assertThrows(CondominiumNotFoundException.class, () -> machineService.getMachinesByCondominium(1L,
+        new PaginationRequestDto(1, 10, "identifier", "ASC")));
+  }
+
+  @Test
+  void givenCondominiumWithoutMachines_whenGetMachinesByCondominiumIsCalled_thenReturnEmptyPage() {
+    when(machineRepository.findMachinesByCondominiumId(eq(1L), any(Pageable.class))).thenReturn(Page.empty());
+    when(condominiumRepository.existsById(1L)).thenReturn(true);
+
+    PaginationResponseDto<CondominiumMachineResponseDto> machines = machineService.getMachinesByCondominium(1L,
+        new PaginationRequestDto(1, 10, "identifier", "ASC"));
+
+    assertTrue(machines.empty());
+  }
+
+  @Test
+  void givenNoCursor_whenGetMachinesByCursorIsCalled_thenReturnFirstWindowWithoutCounting() {
+    CursorPaginationRequestDto cursorPagination = new CursorPaginationRequestDto(null, 1, "id", "ASC");
+    Window<Machine> window = Window.from(List.of(getMockMachine()),
+        index -> ScrollPosition.forward(Map.of("id", 1L)), true);
+
     when(condominiumMapper.toDto(any())).thenReturn(getMockCondominiumDto());
-    when(machineRepository.findMachineByCondominiumIdAndIdentifier(any(), any())).thenReturn(Optional.of(mockMachine));
+    when(machineRepository.findAllBy(ScrollPosition.keyset(), Sort.by(Sort.Direction.ASC, "id"), Limit.of(1)))
+        .thenReturn(window);
+    CursorPaginationResponseDto<MachineResponseDto> machines = machineService.getMachinesByCursor(cursorPagination);
+
+    assertEquals(List.of(getMachineResponseDto()), machines.content());
+    assertEquals(1, machines.pageSize());
+    assertNotNull(machines.nextCursor());
+    assertFalse(machines.last());
+    verify(machineRepository, never()).findAll(any(Pageable.class));
+    verify(machineRepository, never()).count();
+  }
 
+  @Test
+  void givenCursor_whenGetMachinesByCursorIsCalled_thenSeekAfterCursor() {
+    CursorPaginationRequestDto cursorPagination = new CursorPaginationRequestDto("eyJpZCI6IjEifQ", 10, "id", "ASC");
+
+    when(machineRepository.findAllBy(eq(ScrollPosition.forward(Map.of("id", 1L))), any(Sort.class),
+        any(Limit.class))).thenReturn(Window.from(List.of(), ScrollPosition::offset));
+    CursorPaginationResponseDto<MachineResponseDto> machines = machineService.getMachinesByCursor(cursorPagination);
+
+    assertTrue(machines.empty());
+    assertTrue(machines.last());
+    assertNull(machines.nextCursor());
+  }
+
+  @Test
+  void givenMachineExists_whenGetMachineByIdentifierIsCalled_thenReturnMachineDtoCondominiumAnd() {
     MachineResponseDto mockMachineResponseDto = getMachineResponseDto();
+    when(machineRepository.findMachineByCondominiumIdAndIdentifier(any(), any()))
+        .thenReturn(Optional.of(mockMachineResponseDto));
+
     MachineResponseDto machineFound = machineService.getMachineByCondominiumAndIdentifier(
-        mockMachine.getCondominium().getId(), "Washing Machine");
+        mockMachineResponseDto.condominium().id(), "Washing Machine");
 
     assertEquals(mockMachineResponseDto, machineFound);
   }
 
+  @Test
+  void givenMachineCachedByIdentifier_whenGetMachineByIdentifierIsCalled_thenServeFromCacheById() {
+    MachineResponseDto cachedMachine = getMachineResponseDto();
+    cacheManager.getCache(MACHINES).put(1L, cachedMachine);
+    cacheManager.getCache(MACHINES_BY_IDENTIFIER).put(new SimpleKey(1L, "Washing Machine"), 1L);
+
+    MachineResponseDto machineFound = machineService.getMachineByCondominiumAndIdentifier(1L, "Washing Machine");
+
+    assertEquals(cachedMachine, machineFound);
+    verify(machineRepository, never()).findMachineByCondominiumIdAndIdentifier(any(), any());
+  }
+
+  @Test
+  void givenCachedMachineWasRenamed_whenGetMachineByOldIdentifierIsCalled_thenQueryInsteadOfServingIt() {
+    cacheManager.getCache(MACHINES).put(1L, MachineResponseDto.builder()
+        .id(1L).identifier("Renamed Machine").condominium(getMockCondominiumDto()).type("Washer").version(1L).build());
+    cacheManager.getCache(MACHINES_BY_IDENTIFIER).put(new SimpleKey(1L, "Washing Machine"), 1L);
+    when(machineRepository.findMachineByCondominiumIdAndIdentifier("Washing Machine", 1L))
+        .thenReturn(Optional.empty());
+
+    assertThrows(MachineNotFoundException.class,
+        () -> machineService.getMachineByCondominiumAndIdentifier(1L, "Washing Machine"));
+  }
+
   @Test
   void givenMachineDoesNotExist_whenGetMachineByIdentifierIsCalled_thenThrowMachineNotFoundException() {
     when(machineRepository.findMachineByCondominiumIdAndIdentifier(any(), any())).thenReturn(Optional.empty());
@@ -233,8 +553,9 @@ public class MachineServiceTest {
   private static Machine getMockMachine() {
     return new Machine(1L,
         "Washing Machine",
-        "Washer",
-        getMockCondominium());
+        MachineType.WASHER,
+        getMockCondominium(),
+        0L);
   }
 
   private static MachineRequestDto getMachineRequestDto() {
@@ -245,17 +566,33 @@ public class MachineServiceTest {
         .build();
   }
 
+  private static MachineRequestDto getMachineUpdateRequestDto() {
+    return MachineRequestDto.builder()
+        .id(1L)
+        .identifier("Washing Machine")
+        .condominiumId(1L)
+        .type("Washer")
+        .version(0L)
+        .build();
+  }
+
+  private static DataIntegrityViolationException getDataIntegrityViolation(String constraintName) {
+    return new DataIntegrityViolationException("could not execute statement",
+        new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+  }
+
   private static MachineResponseDto getMachineResponseDto() {
     return MachineResponseDto.builder()
         .id(1L)
         .identifier("Washing Machine")
         .condominium(getMockCondominiumDto())
         .type("Washer")
+        .version(0L)
         .build();
   }
 
   private static Condominium getMockCondominium() {
-    return new Condominium(1L, "Condominium 1", "123 Main St", "123456789", "test@test.com", null);
+    return new Condominium(1L, "Condominium 1", "123 Main St", "123456789", "test@test.com", null, 0L);
   }
 
   private static CondominiumResponseDto getMockCondominiumDto() {
@@ -0,0 +1,40 @@
+package com.overflow.laundry.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LogSamplerTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final LogSampler logSampler = new LogSampler(Duration.ofSeconds(10), nanoTime::get);
+
+  @Test
+  void givenSeveralCallsWithinInterval_whenSample_thenGrantOnlyFirst() {
+    assertEquals(OptionalLong.of(0), logSampler.sample("MachineNotFoundException"));
+    assertEquals(OptionalLong.empty(), logSampler.sample("MachineNotFoundException"));
+    assertEquals(OptionalLong.empty(), logSampler.sample("MachineNotFoundException"));
+  }
+
+  @Test
+  void givenIntervalElapsed_whenSample_thenGrantWithSuppressedCount() {
+    logSampler.sample("MachineNotFoundException");
+    logSampler.sample("MachineNotFoundException");
+    logSampler.sample("MachineNotFoundException");
+
+    nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    assertEquals(OptionalLong.of(2), logSampler.sample("MachineNotFoundException"));
+    assertEquals(OptionalLong.empty(), logSampler.sample("MachineNotFoundException"));
+  }
+
+  @Test
+  void givenDifferentKeys_whenSample_thenSampleEachOnItsOwn() {
+    assertEquals(OptionalLong.of(0), logSampler.sample("MachineNotFoundException"));
+    assertEquals(OptionalLong.of(0), logSampler.sample("CondominiumNotFoundException"));
+  }
+}
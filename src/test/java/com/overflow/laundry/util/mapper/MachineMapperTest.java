@@ -2,6 +2,7 @@ package com.overflow.laundry.util.mapper;
 
 import com.overflow.laundry.model.Condominium;
 import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.MachineType;
 import com.overflow.laundry.model.dto.CondominiumResponseDto;
 import com.overflow.laundry.model.dto.MachineRequestDto;
 import com.overflow.laundry.model.dto.MachineResponseDto;
@@ -36,19 +37,20 @@ public class MachineMapperTest {
 
   private static MachineResponseDto getMachineResponseDto() {
     return MachineResponseDto.builder().id(1L).identifier("Washing Machine")
-        .condominium(getMockCondominiumResponseDto()).type("Washer").build();
+        .condominium(getMockCondominiumResponseDto()).type("Washer").version(0L).build();
   }
 
   private static MachineRequestDto getMachineRequestDto() {
-    return MachineRequestDto.builder().id(1L).identifier("Washing Machine").condominiumId(1L).type("Washer").build();
+    return MachineRequestDto.builder().id(1L).identifier("Washing Machine").condominiumId(1L).type("Washer")
+        .version(0L).build();
   }
 
   private static Machine getMockMachineEntity() {
-    return new Machine(1L, "Washing Machine", "Washer", getMockCondominium());
+    return new Machine(1L, "Washing Machine", MachineType.WASHER, getMockCondominium(), 0L);
   }
 
   private static Condominium getMockCondominium() {
-    return new Condominium(1L, "Condominium 1", "123 Main St", "123456789", "test@test.com", null);
+    return new Condominium(1L, "Condominium 1", "123 Main St", "123456789", "test@test.com", null, 0L);
   }
 
   private static CondominiumResponseDto getMockCondominiumResponseDto() {
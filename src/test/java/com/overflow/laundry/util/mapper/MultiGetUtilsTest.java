@@ -0,0 +1,47 @@
+package com.overflow.laundry.util.mapper;
+
+import com.overflow.laundry.model.dto.MultiGetResponseDto;
+import com.overflow.laundry.util.MultiGetUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MultiGetUtilsTest {
+
+  @Test
+  void givenIdsInAnyOrder_whenFindAllByIds_thenKeepRequestOrderAndReportMissingIds() {
+    MultiGetResponseDto<Long> response = MultiGetUtils.findAllByIds(new LinkedHashSet<>(List.of(3L, 4L, 1L)),
+        ids -> ids.stream().filter(id -> id != 4L).sorted().toList(), Function.identity());
+
+    assertEquals(List.of(3L, 1L), response.content());
+    assertEquals(List.of(4L), response.missingIds());
+    assertEquals(3, response.requestedCount());
+  }
+
+  @Test
+  void givenMoreIdsThanChunkSize_whenFindAllByIds_thenQueryEachChunkOnce() {
+    int size = MultiGetUtils.ID_CHUNK_SIZE * 2 + 1;
+    LinkedHashSet<Long> ids = LongStream.rangeClosed(1, size).boxed()
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    List<Collection<Long>> chunks = new ArrayList<>();
+
+    MultiGetResponseDto<Long> response = MultiGetUtils.findAllByIds(ids, chunk -> {
+      chunks.add(List.copyOf(chunk));
+      return List.copyOf(chunk);
+    }, Function.identity());
+
+    assertEquals(3, chunks.size());
+    assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= MultiGetUtils.ID_CHUNK_SIZE));
+    assertEquals(size, response.content().size());
+    assertTrue(response.missingIds().isEmpty());
+  }
+}
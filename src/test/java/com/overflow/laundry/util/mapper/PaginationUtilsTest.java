@@ -1,20 +1,36 @@
 package com.overflow.laundry.util.mapper;
 
+import com.overflow.laundry.model.Machine;
+import com.overflow.laundry.model.dto.CursorPaginationRequestDto;
+import com.overflow.laundry.model.dto.CursorPaginationResponseDto;
 import com.overflow.laundry.model.dto.PaginationRequestDto;
 import com.overflow.laundry.model.dto.PaginationResponseDto;
+import com.overflow.laundry.model.dto.SlicePaginationResponseDto;
 import com.overflow.laundry.util.PaginationUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static com.overflow.laundry.constant.ObjectValidatorErrors.PAGINATION_CURSOR_INVALID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -67,4 +83,94 @@ public class PaginationUtilsTest {
     assertTrue(responseDto.first());
     assertEquals(List.of("item1", "item2"), responseDto.content());
   }
+
+  @Test
+  void givenSliceAndMapper_whenToSlicePaginationResponse_thenReturnHasNextWithoutTotals() {
+    Slice<String> slice = new SliceImpl<>(List.of("item1", "item2"), PageRequest.of(0, 2), true);
+
+    SlicePaginationResponseDto<String> responseDto = PaginationUtils.toSlicePaginationResponse(slice,
+        Function.identity());
+
+    assertEquals(2, responseDto.pageSize());
+    assertEquals(1, responseDto.pageNumber());
+    assertFalse(responseDto.empty());
+    assertFalse(responseDto.last());
+    assertTrue(responseDto.first());
+    assertEquals(List.of("item1", "item2"), responseDto.content());
+  }
+
+  @Test
+  void givenKeysetPosition_whenToCursorAndBack_thenReturnTypedKeysetPosition() {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("identifier", "W1");
+    keys.put("id", 101L);
+    Sort sort = Sort.by(Sort.Direction.ASC, "identifier");
+
+    String cursor = PaginationUtils.toCursor(ScrollPosition.forward(keys));
+    KeysetScrollPosition position = PaginationUtils.toScrollPosition(cursor, sort, Machine.class);
+
+    assertEquals(keys, position.getKeys());
+    assertEquals(ScrollPosition.Direction.FORWARD, position.getDirection());
+  }
+
+  @Test
+  void givenNoCursor_whenToScrollPosition_thenReturnInitialPosition() {
+    KeysetScrollPosition position = PaginationUtils.toScrollPosition(null, Sort.by("id"), Machine.class);
+
+    assertTrue(position.isInitial());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not-a-cursor", "eyJ0eXBlIjoiV2FzaGVyIn0", "eyJpZCI6ImFiYyJ9"})
+  void givenBrokenCursor_whenToScrollPosition_thenThrowIllegalArgumentException(String cursor) {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> PaginationUtils.toScrollPosition(cursor, Sort.by("id"), Machine.class));
+
+    assertEquals(PAGINATION_CURSOR_INVALID, exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"identifier", "unknownProperty"})
+  void givenCursorWithKeyOutsideSort_whenToScrollPosition_thenThrowIllegalArgumentException(String property) {
+    String cursor = PaginationUtils.toCursor(ScrollPosition.forward(Map.of("id", 101L, property, "W1")));
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> PaginationUtils.toScrollPosition(cursor, Sort.by("id"), Machine.class));
+
+    assertEquals(PAGINATION_CURSOR_INVALID, exception.getMessage());
+  }
+
+  @Test
+  void givenWindowWithNext_whenToCursorPaginationResponse_thenReturnNextCursor() {
+    Window<String> window = Window.from(List.of("item1", "item2"),
+        index -> ScrollPosition.forward(Map.of("id", index)), true);
+
+    CursorPaginationResponseDto<String> responseDto =
+        PaginationUtils.toCursorPaginationResponse(window, 2, Function.identity());
+
+    assertEquals(List.of("item1", "item2"), responseDto.content());
+    assertEquals(2, responseDto.pageSize());
+    assertEquals(PaginationUtils.toCursor(ScrollPosition.forward(Map.of("id", 1))), responseDto.nextCursor());
+    assertFalse(responseDto.empty());
+    assertFalse(responseDto.last());
+  }
+
+  @Test
+  void givenLastWindow_whenToCursorPaginationResponse_thenReturnNoCursor() {
+    Window<String> window = Window.from(List.of("item1"), index -> ScrollPosition.forward(Map.of("id", index)));
+
+    CursorPaginationResponseDto<String> responseDto =
+        PaginationUtils.toCursorPaginationResponse(window, 10, Function.identity());
+
+    assertNull(responseDto.nextCursor());
+    assertTrue(responseDto.last());
+  }
+
+  @Test
+  void givenCursorPaginationRequestDto_whenToSort_thenReturnSort() {
+    CursorPaginationRequestDto cursorPaginationRequestDto = new CursorPaginationRequestDto(null, null, "name", "asc");
+
+    assertEquals(Sort.by(Sort.Direction.ASC, "name"), PaginationUtils.toSort(cursorPaginationRequestDto));
+    assertEquals(10, PaginationUtils.toLimit(cursorPaginationRequestDto).max());
+  }
 }
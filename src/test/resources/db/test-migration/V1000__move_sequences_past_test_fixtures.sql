@@ -0,0 +1,5 @@
+-- The test scripts seed rows with fixed ids below 1000, so generated ids start above them. This runs
+-- once per database: restarting the sequences before every test would move them back under the block
+-- Hibernate already holds and hand out the same ids twice.
+ALTER SEQUENCE condominium_seq RESTART WITH 1000;
+ALTER SEQUENCE machine_seq RESTART WITH 1000;
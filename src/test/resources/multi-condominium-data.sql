@@ -0,0 +1,4 @@
+
+INSERT INTO public.condominium (id, address, contact_phone, email, name) VALUES (56, '456 Side St', '987654321', 'side@test.com', 'Side Park');
+INSERT INTO public.machine (id, condominium_id, identifier, type_id) VALUES (102, 56, 'side-identifier', 2);
+INSERT INTO public.machine (id, condominium_id, identifier, type_id) VALUES (103, 56, 'side-identifier-2', 1);